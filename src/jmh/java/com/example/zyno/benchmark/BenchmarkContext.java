@@ -0,0 +1,46 @@
+package com.example.zyno.benchmark;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.zyno.ZynoApplication;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Boots the application without a web server against its own in-memory H2 database (MySQL mode),
+ * so every benchmark state works on a freshly generated dataset.
+ *
+ * Caching is switched off: the benchmarks measure the finders themselves, not Caffeine hits.
+ * Run with {@code mvn -Pjmh test-compile exec:exec}; pass JMH options through {@code -Djmh.args}.
+ */
+final class BenchmarkContext implements AutoCloseable {
+    private final ConfigurableApplicationContext context;
+
+    BenchmarkContext(String name) {
+        context = new SpringApplicationBuilder(ZynoApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("test")
+            .properties(
+                "spring.datasource.url=jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "spring.jpa.properties.hibernate.generate_statistics=false",
+                "spring.cache.type=none",
+                "zyno.storage.image-root=target/jmh-images/" + name,
+                "logging.level.root=WARN")
+            .run();
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    EntityManagerFactory entityManagerFactory() {
+        return context.getBean(EntityManagerFactory.class);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
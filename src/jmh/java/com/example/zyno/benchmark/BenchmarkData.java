@@ -0,0 +1,134 @@
+package com.example.zyno.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+import com.example.zyno.model.CartItem;
+import com.example.zyno.model.Image;
+import com.example.zyno.model.Order;
+import com.example.zyno.model.Product;
+import com.example.zyno.model.User;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Deterministic datasets for the benchmarks. Rows are persisted directly through an EntityManager in
+ * flushed chunks, since saveAll on client-assigned ids would merge (and SELECT) every row first.
+ */
+final class BenchmarkData {
+    static final int CATEGORIES = 50;
+    static final String[] WORDS = {"steel", "cotton", "wireless", "organic", "classic", "compact", "leather", "smart"};
+    private static final int CHUNK = 500;
+
+    private BenchmarkData() {
+    }
+
+    static String productId(int i) {
+        return "p" + i;
+    }
+    static String category(int i) {
+        return "category" + (i % CATEGORIES);
+    }
+    static String username(int i) {
+        return "user" + i;
+    }
+
+    static Product product(int i) {
+        Product product = new Product();
+        product.setProductId(productId(i));
+        product.setProductName(WORDS[i % WORDS.length] + " product " + i);
+        product.setProductDescription("A " + WORDS[(i / WORDS.length) % WORDS.length] + " item for benchmark " + i);
+        product.setCategory(category(i));
+        product.setPrice(1 + (i * 7919 % 100000) / 100.0);
+        product.setStockQuantity(1000);
+        return product;
+    }
+    static User user(int i) {
+        User user = new User();
+        user.setUsername(username(i));
+        user.setEmail(username(i) + "@example.com");
+        user.setFirstName("First" + i);
+        user.setLastname("Last" + i);
+        return user;
+    }
+    static Order order(int i, User user, List<Product> products) {
+        Order order = new Order();
+        order.setUserId(user.getUsername());
+        order.setUser(user);
+        order.setAddress(i + " Benchmark Street");
+        order.setProducts(products);
+        order.setQuantity(products.size());
+        order.setTotalAmount(products.stream().mapToDouble(Product::getPrice).sum());
+        order.setOrderDate(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(i));
+        order.setExpectedDelivery(LocalDate.of(2024, 1, 6));
+        return order;
+    }
+    static Image image(long i, Product product) {
+        Image image = new Image();
+        image.setId(i);
+        image.setContentHash(Long.toHexString(i * 0x9E3779B97F4A7C15L));
+        image.setSize(4096);
+        image.setFileName("image" + i + ".png");
+        image.setContentType("image/png");
+        image.setProduct(product);
+        return image;
+    }
+
+    static byte[] randomBytes(int length, long seed) {
+        byte[] data = new byte[length];
+        new Random(seed).nextBytes(data);
+        return data;
+    }
+
+    static List<Product> seedProducts(BenchmarkContext context, int count) {
+        return persist(context, count, BenchmarkData::product);
+    }
+    static List<User> seedUsers(BenchmarkContext context, int count) {
+        return persist(context, count, BenchmarkData::user);
+    }
+
+    // itemsPerUser cart lines per user, spread over the given products.
+    static void seedCarts(BenchmarkContext context, List<User> users, List<Product> products, int itemsPerUser) {
+        persist(context, users.size() * itemsPerUser, i -> {
+            CartItem cartItem = new CartItem();
+            cartItem.setUser(users.get(i / itemsPerUser));
+            cartItem.setProduct(products.get((i * 31) % products.size()));
+            cartItem.setQuantity(1 + i % 3);
+            return cartItem;
+        });
+    }
+
+    private static <T> List<T> persist(BenchmarkContext context, int count, IntFunction<T> factory) {
+        List<T> rows = new ArrayList<>(count);
+        EntityManager entityManager = context.entityManagerFactory().createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            for (int i = 0; i < count; i++) {
+                T row = factory.apply(i);
+                entityManager.persist(attach(entityManager, row));
+                rows.add(row);
+                if ((i + 1) % CHUNK == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            entityManager.getTransaction().commit();
+        } finally {
+            entityManager.close();
+        }
+        return rows;
+    }
+
+    // Cart lines point at users and products persisted by an earlier EntityManager.
+    private static <T> T attach(EntityManager entityManager, T row) {
+        if (row instanceof CartItem cartItem) {
+            cartItem.setUser(entityManager.getReference(User.class, cartItem.getUser().getUsername()));
+            cartItem.setProduct(entityManager.getReference(Product.class, cartItem.getProduct().getProductId()));
+        }
+        return row;
+    }
+}
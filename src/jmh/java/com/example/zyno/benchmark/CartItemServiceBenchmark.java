@@ -0,0 +1,75 @@
+package com.example.zyno.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.zyno.dto.CartSummaryDTO;
+import com.example.zyno.model.CartItem;
+import com.example.zyno.model.Product;
+import com.example.zyno.model.User;
+import com.example.zyno.service.CartItemService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CartItemServiceBenchmark {
+    private static final int ITEMS_PER_USER = 10;
+
+    // total cart lines; users = size / ITEMS_PER_USER
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private BenchmarkContext context;
+    private CartItemService cartItemService;
+    private int users;
+    private int products;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new BenchmarkContext("carts" + size);
+        users = size / ITEMS_PER_USER;
+        products = Math.max(100, size / 10);
+        List<Product> productRows = BenchmarkData.seedProducts(context, products);
+        List<User> userRows = BenchmarkData.seedUsers(context, users);
+        BenchmarkData.seedCarts(context, userRows, productRows, ITEMS_PER_USER);
+        cartItemService = context.bean(CartItemService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<CartItem> getCartItemsByUserId() {
+        return cartItemService.getCartItemsByUserId(BenchmarkData.username(next++ % users));
+    }
+
+    @Benchmark
+    public CartSummaryDTO getCartSummary() {
+        return cartItemService.getCartSummary(BenchmarkData.username(next++ % users));
+    }
+
+    @Benchmark
+    public List<CartItem> getCartItemsByProductId() {
+        return cartItemService.getCartItemsByProductId(BenchmarkData.productId(next++ % products));
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.zyno.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.Resource;
+
+import com.example.zyno.model.Image;
+import com.example.zyno.model.Product;
+import com.example.zyno.service.ImageService;
+
+/**
+ * The download path of ImageController: metadata lookup, blob lookup, and copying the bytes out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ImageServiceBenchmark {
+    private static final int IMAGES = 100;
+
+    @Param({"16", "256", "2048"})
+    public int imageKb;
+
+    private BenchmarkContext context;
+    private ImageService imageService;
+    private final List<Long> ids = new ArrayList<>();
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = new BenchmarkContext("images" + imageKb);
+        List<Product> products = BenchmarkData.seedProducts(context, 10);
+        imageService = context.bean(ImageService.class);
+        for (int i = 0; i < IMAGES; i++) {
+            byte[] data = BenchmarkData.randomBytes(imageKb * 1024, i);
+            ids.add(imageService.saveImage(data, "image" + i + ".bin", "application/octet-stream",
+                products.get(i % products.size())));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long download() throws IOException {
+        Image image = imageService.getImageById(ids.get(next++ % IMAGES));
+        Resource content = imageService.getImageContent(image);
+        try (InputStream in = content.getInputStream()) {
+            return in.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+}
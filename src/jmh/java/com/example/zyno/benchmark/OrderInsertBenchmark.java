@@ -0,0 +1,91 @@
+package com.example.zyno.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.zyno.model.Order;
+import com.example.zyno.model.Product;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Order inserts per second across the two changes made to the write path, varied independently:
+ * the key ("uuid" assigns a random UUID, "ulid" leaves it to the time-ordered generator) and the
+ * JDBC batch size. Absolute numbers are H2's; the key effect is larger on InnoDB, whose clustered
+ * primary key makes random inserts split pages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderInsertBenchmark {
+    private static final int ORDERS = 500;
+    private static final int FLUSH_EVERY = 50;
+
+    @Param({"uuid", "ulid"})
+    public String key;
+    @Param({"1", "50"})
+    public int batchSize;
+
+    private BenchmarkContext context;
+    private List<Product> products;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new BenchmarkContext("orderinsert" + key + batchSize);
+        products = BenchmarkData.seedProducts(context, 3);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ORDERS)
+    public void insertOrders() {
+        EntityManager entityManager = context.entityManagerFactory().createEntityManager();
+        try {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            entityManager.getTransaction().begin();
+            for (int i = 0; i < ORDERS; i++) {
+                Order order = new Order();
+                if ("uuid".equals(key)) {
+                    order.setOrderId(UUID.randomUUID().toString());
+                }
+                order.setOrderDate(LocalDateTime.now());
+                order.setProducts(products.stream()
+                    .map(product -> entityManager.getReference(Product.class, product.getProductId()))
+                    .toList());
+                entityManager.persist(order);
+                if ((i + 1) % FLUSH_EVERY == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            entityManager.getTransaction().commit();
+        } finally {
+            entityManager.close();
+        }
+    }
+}
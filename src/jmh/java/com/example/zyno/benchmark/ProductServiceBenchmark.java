@@ -0,0 +1,79 @@
+package com.example.zyno.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.zyno.dto.CursorPageDTO;
+import com.example.zyno.model.Product;
+import com.example.zyno.service.ProductService;
+import com.example.zyno.service.SearchIndexService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductServiceBenchmark {
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private BenchmarkContext context;
+    private ProductService productService;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new BenchmarkContext("products" + size);
+        BenchmarkData.seedProducts(context, size);
+        // the index is built at startup, before the dataset exists
+        context.bean(SearchIndexService.class).rebuild();
+        productService = context.bean(ProductService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Product getProductById() {
+        return productService.getProductById(BenchmarkData.productId(next++ % size));
+    }
+
+    @Benchmark
+    public List<Product> getProductsByCategory() {
+        return productService.getProductsByCategory(BenchmarkData.category(next++));
+    }
+
+    @Benchmark
+    public List<Product> getProductsByPriceRange() {
+        double min = next++ % 900;
+        return productService.getProductsByPriceRange(min, min + 5);
+    }
+
+    @Benchmark
+    public List<Product> getProductsByName() {
+        return productService.getProductsByName(BenchmarkData.WORDS[next++ % BenchmarkData.WORDS.length]);
+    }
+
+    @Benchmark
+    public CursorPageDTO<Product> searchProducts() {
+        double min = next++ % 900;
+        return productService.searchProducts(BenchmarkData.category(next), min, min + 100, null, null, 20);
+    }
+}
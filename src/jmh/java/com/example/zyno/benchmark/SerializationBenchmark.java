@@ -0,0 +1,81 @@
+package com.example.zyno.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.zyno.model.Image;
+import com.example.zyno.model.Order;
+import com.example.zyno.model.Product;
+import com.example.zyno.model.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Jackson serialization of the entity lists the list endpoints return, with the same ObjectMapper
+ * defaults Spring Boot configures. No database is involved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+    private static final int PRODUCTS_PER_ORDER = 3;
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private List<Product> products;
+    private List<Order> orders;
+    private List<Image> images;
+
+    @Setup
+    public void setUp() {
+        products = new ArrayList<>(size);
+        orders = new ArrayList<>(size);
+        images = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            products.add(BenchmarkData.product(i));
+        }
+        for (int i = 0; i < size; i++) {
+            List<Product> lines = new ArrayList<>(PRODUCTS_PER_ORDER);
+            for (int j = 0; j < PRODUCTS_PER_ORDER; j++) {
+                lines.add(products.get((i + j) % size));
+            }
+            User user = BenchmarkData.user(i % 100);
+            orders.add(BenchmarkData.order(i, user, lines));
+            images.add(BenchmarkData.image(i, products.get(i)));
+        }
+    }
+
+    @Benchmark
+    public byte[] products() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(products);
+    }
+
+    @Benchmark
+    public byte[] orders() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(orders);
+    }
+
+    @Benchmark
+    public byte[] images() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(images);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.zyno.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    // Variant generation is best effort: when the queue is full the task is dropped and
+    // downloads keep serving the original.
+    @Bean(name = "imageVariantExecutor")
+    public Executor imageVariantExecutor(
+            @Value("${zyno.images.variant-threads:2}") int threads,
+            @Value("${zyno.images.variant-queue:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-variant-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // Payment calls block on the gateway; the pool bounds how many run at once and the queue
+    // bounds how many wait. Overflow stays PENDING and is resubmitted by TransactionService.
+    // In virtual-thread mode the workers are virtual threads; the bounds stay the same. The mode is
+    // checked the way Boot checks it, so the property is ignored on a JVM without virtual threads.
+    @Bean(name = "paymentExecutor")
+    public Executor paymentExecutor(
+            @Value("${zyno.payments.threads:8}") int threads,
+            @Value("${zyno.payments.queue:500}") int queueCapacity,
+            Environment environment) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("payment-");
+        if (Threading.VIRTUAL.isActive(environment)) {
+            executor.setThreadFactory(new VirtualThreadTaskExecutor("payment-").getVirtualThreadFactory());
+        }
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.zyno.config;
+
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+@Configuration
+public class JacksonConfig {
+
+    // DTOs carrying the field filter serialize every property unless a request narrows them.
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldFilterDefaults() {
+        return builder -> builder.filters(
+            new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    // Accept: application/cbor gets the same payloads in binary; built from Boot's builder so
+    // date handling and the field filter match the JSON converter.
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
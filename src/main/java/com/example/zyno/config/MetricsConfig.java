@@ -0,0 +1,45 @@
+package com.example.zyno.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.example.zyno.metrics.HibernateRequestMetricsInterceptor;
+import com.example.zyno.metrics.StatementCounter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private StatementCounter statementCounter;
+
+    // Static so the entity manager factory can be built before this configuration is instantiated.
+    @Bean
+    public static StatementCounter statementCounter() {
+        return new StatementCounter();
+    }
+
+    @Bean
+    public static HibernatePropertiesCustomizer statementCounterCustomizer(StatementCounter statementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+    }
+
+    // Lowest precedence puts it inside the open-in-view interceptor, whose session it reads on completion.
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HibernateRequestMetricsInterceptor(
+                statementCounter, entityManagerFactory, meterRegistry))
+            .order(Ordered.LOWEST_PRECEDENCE);
+    }
+}
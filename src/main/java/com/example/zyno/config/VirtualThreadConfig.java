@@ -0,0 +1,54 @@
+package com.example.zyno.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Opt-in virtual-thread mode (spring.threads.virtual.enabled=true, Java 21 runtime). Spring Boot then
+ * serves requests and the default task executor on virtual threads; this configuration caps how many
+ * of them can hold a database connection at once, sized to the Hikari pool. Like Boot, it stays off
+ * when the property is set on an older JVM.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor databaseConcurrencyLimiter() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    return new ConcurrencyLimitedDataSource(hikari, hikari.getMaximumPoolSize(),
+                        hikari.getConnectionTimeout());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder databasePermitMetrics(DataSource dataSource) {
+        return (MeterRegistry registry) -> {
+            if (dataSource instanceof ConcurrencyLimitedDataSource limited) {
+                Gauge.builder("zyno.db.permits.available", limited, ConcurrencyLimitedDataSource::getAvailablePermits)
+                    .description("Database permits free for virtual threads")
+                    .register(registry);
+                Gauge.builder("zyno.db.permits.waiting", limited, ConcurrencyLimitedDataSource::getWaiting)
+                    .description("Virtual threads waiting for a database permit")
+                    .register(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.zyno.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.zyno.dto.SalesTotalDTO;
+import com.example.zyno.model.SalesDimension;
+import com.example.zyno.model.SalesRollup;
+import com.example.zyno.service.SalesRollupService;
+
+@RestController
+@RequestMapping("/analytics")
+public class AnalyticsController {
+    @Autowired
+    private SalesRollupService salesRollupService;
+
+    // Daily series for one product, one category, or (dimension=TOTAL) the whole store.
+    @GetMapping("/sales/daily")
+    public List<SalesRollup> getDailySales(
+            @RequestParam(defaultValue = "TOTAL") SalesDimension dimension,
+            @RequestParam(defaultValue = "") String key,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return salesRollupService.getDaily(dimension, key, from, to);
+    }
+    // Range totals per product or category, highest revenue first.
+    @GetMapping("/sales/{dimension}")
+    public List<SalesTotalDTO> getSalesTotals(
+            @PathVariable SalesDimension dimension,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        return salesRollupService.getTotals(dimension, from, to, limit);
+    }
+    @PostMapping("/sales/rebuild")
+    public int rebuildSales() {
+        return salesRollupService.rebuild();
+    }
+}
@@ -4,11 +4,16 @@ import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.zyno.dto.CartBatchItemDTO;
+import com.example.zyno.dto.CartSummaryDTO;
 import com.example.zyno.model.CartItem;
 import com.example.zyno.service.CartItemService;
 
@@ -27,6 +32,14 @@ public class CartItemController {
     {
         return cartItemService.getCartItemsByUserId(userId);
     }
+    @GetMapping("/user/{userId}/summary")
+    public CartSummaryDTO getCartSummary(@PathVariable String userId) {
+        return cartItemService.getCartSummary(userId);
+    }
+    @PostMapping("/user/{userId}/batch")
+    public CartSummaryDTO applyCartBatch(@PathVariable String userId, @RequestBody List<CartBatchItemDTO> items) {
+        return cartItemService.applyCartBatch(userId, items);
+    }
     @GetMapping("/product/{productId}")
     public List<CartItem> getCartItemsByProductId(@RequestParam String productId)
     {
@@ -0,0 +1,53 @@
+package com.example.zyno.controller;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.example.zyno.dto.FieldFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+// ?fields=productId,productName,price trims every DTO annotated with the field filter down to the named
+// properties, in JSON and CBOR alike. Entities and wrapper objects such as CursorPageDTO are left whole.
+@RestControllerAdvice
+public class FieldSelectionAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || !(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+        String fields = servletRequest.getServletRequest().getParameter("fields");
+        if (fields == null || fields.isBlank()) {
+            return body;
+        }
+        Set<String> names = Arrays.stream(fields.split(","))
+            .map(String::trim)
+            .filter(name -> !name.isEmpty())
+            .collect(Collectors.toSet());
+        MappingJacksonValue value = body instanceof MappingJacksonValue wrapped ? wrapped : new MappingJacksonValue(body);
+        value.setFilters(new SimpleFilterProvider()
+            .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+            .addFilter(FieldFilter.ID, SimpleBeanPropertyFilter.filterOutAllExcept(names)));
+        return value;
+    }
+}
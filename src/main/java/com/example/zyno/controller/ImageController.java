@@ -1,8 +1,17 @@
 package com.example.zyno.controller;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,12 +20,15 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.example.zyno.dto.ImageDTO;
 import com.example.zyno.model.Image;
 import com.example.zyno.model.Product;
 import com.example.zyno.repository.ProductRepository;
 import com.example.zyno.service.ImageService;
+import com.example.zyno.service.ImageVariantService;
 
 @RestController
 @RequestMapping("/images")
@@ -36,17 +48,35 @@ public class ImageController {
             if (productId != null) {
                 product = productRepository.findById(productId).orElse(null);
             }
-            Long imageId = imageService.saveImage(
-                    file.getBytes(),
-                    file.getOriginalFilename(),
-                    file.getContentType(),
-                    product
-            );
+            Long imageId;
+            try (InputStream content = file.getInputStream()) {
+                imageId = imageService.saveImage(
+                        content,
+                        file.getOriginalFilename(),
+                        file.getContentType(),
+                        product
+                );
+            }
             return ResponseEntity.ok(imageId);
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
     }
+    @PostMapping("/upload/batch")
+    public ResponseEntity<List<Long>> uploadImages(
+            @RequestParam("files") List<MultipartFile> files,
+            @RequestParam(value = "productId", required = false) String productId
+    ) {
+        try {
+            Product product = null;
+            if (productId != null) {
+                product = productRepository.findById(productId).orElse(null);
+            }
+            return ResponseEntity.ok(imageService.saveImages(files, product));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
     @DeleteMapping("/delete/{id}")
     public ResponseEntity<Void> deleteImage(@PathVariable Long id) {
         try {
@@ -57,48 +87,93 @@ public class ImageController {
         }
     }
     @GetMapping("/download/{id}")
-    public ResponseEntity<byte[]> downloadImage(@PathVariable Long id) {
+    public ResponseEntity<Resource> downloadImage(
+            @PathVariable Long id,
+            @RequestParam(value = "v", required = false) String version,
+            @RequestParam(value = "size", required = false) Integer size,
+            WebRequest request
+    ) {
         try {
-            byte[] imageData = imageService.getImageById(id).getData();
-            if (imageData != null) {
-                return ResponseEntity.ok()
-                        .header("Content-Disposition", "attachment; filename=image_" + id + ".jpg")
-                        .body(imageData);
-            } else {
+            Image image = imageService.getImageById(id);
+            if (image == null) {
+                return ResponseEntity.notFound().build();
+            }
+            Integer variantSize = size != null ? ImageVariantService.selectSize(size) : null;
+            Resource variant = variantSize != null ? imageService.getImageVariant(image, variantSize) : null;
+            String etag = variant != null
+                    ? "\"" + image.getContentHash() + "-" + variantSize + "\""
+                    : "\"" + image.getContentHash() + "\"";
+            long lastModified = image.getUpdatedAt() != null ? image.getUpdatedAt().toEpochMilli() : -1;
+            // URLs carrying the content hash never change meaning, so they can be cached forever;
+            // bare id URLs must revalidate because updateImageData can swap the bytes behind them,
+            // and so must a sized request answered with the original while its variant is pending.
+            boolean fallback = variantSize != null && variant == null;
+            CacheControl cacheControl = image.getContentHash().equals(version) && !fallback
+                    ? CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable()
+                    : CacheControl.noCache().cachePublic();
+            if (request.checkNotModified(etag, lastModified)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag)
+                        .cacheControl(cacheControl)
+                        .build();
+            }
+            // Returning a Resource lets Spring stream the file and answer Range requests with 206.
+            Resource imageData = variant != null ? variant : imageService.getImageContent(image);
+            if (imageData == null) {
                 return ResponseEntity.notFound().build();
             }
+            String fileName = image.getFileName() != null ? image.getFileName() : "image_" + id;
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .contentType(variant != null
+                            ? MediaType.parseMediaType(ImageVariantService.variantContentType(image.getContentType()))
+                            : mediaTypeOf(image))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                            .filename(fileName, StandardCharsets.UTF_8).build().toString())
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .eTag(etag)
+                    .cacheControl(cacheControl);
+            if (lastModified >= 0) {
+                response.lastModified(lastModified);
+            }
+            return response.body(imageData);
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
     }
+    private static MediaType mediaTypeOf(Image image) {
+        try {
+            return MediaType.parseMediaType(image.getContentType());
+        } catch (Exception e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
     @GetMapping("/all")
-    public ResponseEntity<List<Image>> getAllImages() {
+    public ResponseEntity<List<ImageDTO>> getAllImages() {
         try {
-            List<Image> images = imageService.getAllImages();
+            List<ImageDTO> images = imageService.getImageSummaries();
             return ResponseEntity.ok(images);
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
     }
     @GetMapping("/product/{productId}")
-    public ResponseEntity<List<Image>> getImagesByProductId(@PathVariable String productId)
+    public ResponseEntity<List<ImageDTO>> getImagesByProductId(@PathVariable String productId)
     {
         try {
-            Product product = productRepository.findById(productId).orElse(null);
-            if (product == null) {
+            if (!productRepository.existsById(productId)) {
                 return ResponseEntity.notFound().build();
             }
-            List<Image> images = imageService.getImagesByProduct(product);
+            List<ImageDTO> images = imageService.getImageSummariesByProductId(productId);
             return ResponseEntity.ok(images);
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
     }
     @GetMapping("/content-type")
-    public ResponseEntity<List<Image>> getImagesByContentType(@RequestParam String contentType)
+    public ResponseEntity<List<ImageDTO>> getImagesByContentType(@RequestParam String contentType)
     {
         try {
-            List<Image> images = imageService.getImagesByContentType(contentType);
+            List<ImageDTO> images = imageService.getImageSummariesByContentType(contentType);
             return ResponseEntity.ok(images);
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
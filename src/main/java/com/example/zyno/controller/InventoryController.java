@@ -0,0 +1,46 @@
+package com.example.zyno.controller;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.zyno.service.InventoryReservationService;
+
+@RestController
+@RequestMapping("/inventory")
+public class InventoryController {
+    @Autowired
+    private InventoryReservationService inventoryReservationService;
+
+    @GetMapping("/hot")
+    public Map<String, Long> getHotProducts() {
+        return inventoryReservationService.getAvailableStock();
+    }
+    @PostMapping("/hot/{productId}")
+    public void promote(@PathVariable String productId) {
+        inventoryReservationService.promote(productId);
+    }
+    @DeleteMapping("/hot/{productId}")
+    public void demote(@PathVariable String productId) {
+        inventoryReservationService.demote(productId);
+    }
+    @PostMapping("/reservations")
+    public String reserve(@RequestParam String productId, @RequestParam int quantity) {
+        return inventoryReservationService.reserve(productId, quantity);
+    }
+    @PostMapping("/reservations/{id}/confirm")
+    public void confirm(@PathVariable String id) {
+        inventoryReservationService.confirm(id);
+    }
+    @DeleteMapping("/reservations/{id}")
+    public void release(@PathVariable String id) {
+        inventoryReservationService.release(id);
+    }
+}
@@ -1,8 +1,13 @@
 package com.example.zyno.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -10,9 +15,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.example.zyno.dto.OrderSummaryDTO;
 import com.example.zyno.model.Order;
+import com.example.zyno.service.CheckoutService;
+import com.example.zyno.service.OrderExportService;
 import com.example.zyno.service.OrderService;
 
 @RestController
@@ -20,29 +30,57 @@ import com.example.zyno.service.OrderService;
 public class OrderController {
     @Autowired
     private OrderService orderService;
+    @Autowired
+    private CheckoutService checkoutService;
+    @Autowired
+    private OrderExportService orderExportService;
 
     @GetMapping("/all")
-    public List<Order> getAllOrders() {
+    public List<OrderSummaryDTO> getAllOrders() {
         return orderService.getAllOrders();
     }
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        if ("csv".equalsIgnoreCase(format)) {
+            return ResponseEntity.ok()
+                    .contentType(new MediaType("text", "csv"))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=orders.csv")
+                    .body(out -> orderExportService.exportCsv(from, to, out));
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> orderExportService.exportNdjson(from, to, out));
+    }
     @GetMapping("/{id}")
     public Order getOrderById(@PathVariable String id) {
         return orderService.getOrderById(id);
     }
     @GetMapping("/user/{userId}")
-    public List<Order> getOrdersByUserId(@PathVariable String userId) {
+    public List<OrderSummaryDTO> getOrdersByUserId(@PathVariable String userId) {
         return orderService.getOrdersByUserId(userId);
     }
     @PostMapping("/save")
     public Order saveOrder(@RequestBody Order order) {
         return orderService.saveOrder(order);
     }
+    @PostMapping("/save/batch")
+    public List<Order> saveOrders(@RequestBody List<Order> orders) {
+        return orderService.saveOrders(orders);
+    }
+    @PostMapping("/checkout/{userId}")
+    public Order checkout(@PathVariable String userId, @RequestParam String address) {
+        return checkoutService.checkout(userId, address);
+    }
     @PutMapping("/update/{id}")
     public Order updateOrder(@RequestBody Order order,@PathVariable String id) {
         return orderService.updateOrder(order, id);
     }
     @GetMapping("/product/{productId}")
-    public List<Order> getOrdersByProductId(@PathVariable String productId) {
+    public List<OrderSummaryDTO> getOrdersByProductId(@PathVariable String productId) {
         return orderService.getOrdersByProductId(productId);
     }
     @DeleteMapping("/delete/{id}")
@@ -1,6 +1,7 @@
 package com.example.zyno.controller;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,7 +14,12 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.zyno.dto.CoPurchaseDTO;
+import com.example.zyno.dto.CursorPageDTO;
+import com.example.zyno.dto.FacetResultDTO;
+import com.example.zyno.dto.ProductListDTO;
 import com.example.zyno.model.Product;
+import com.example.zyno.model.ProductRating;
 import com.example.zyno.service.ProductService;
 
 @RestController
@@ -23,12 +29,12 @@ public class ProductController {
     private ProductService productService;
 
     @GetMapping("/all")
-    public List<Product> getAllProducts() {
-        return productService.getAllProducts();
+    public List<ProductListDTO> getAllProducts() {
+        return toListDTOs(productService.getAllProducts());
     }
     @GetMapping("/category/{category}")
-    public List<Product> getProductsByCategory(@PathVariable String category) {
-        return productService.getProductsByCategory(category);
+    public List<ProductListDTO> getProductsByCategory(@PathVariable String category) {
+        return toListDTOs(productService.getProductsByCategory(category));
     }
     @PostMapping("/save")
     public Product saveProduct(Product product) {
@@ -43,24 +49,74 @@ public class ProductController {
         return productService.updateProduct(product, id);
     }
     @GetMapping("/price-range")
-    public List<Product> getProductsByPriceRange(@RequestParam double minPrice,@RequestParam double maxPrice) {
-        return productService.getProductsByPriceRange(minPrice, maxPrice);
+    public List<ProductListDTO> getProductsByPriceRange(@RequestParam double minPrice,@RequestParam double maxPrice) {
+        return toListDTOs(productService.getProductsByPriceRange(minPrice, maxPrice));
+    }
+    @GetMapping("/search")
+    public CursorPageDTO<ProductListDTO> searchProducts(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageDTO<Product> page = productService.searchProducts(category, minPrice, maxPrice, name, cursor, size);
+        return new CursorPageDTO<>(toListDTOs(page.getItems()), page.getNextCursor(), page.getSize());
+    }
+    // One pass over the in-memory facet snapshot: the page plus category counts and a price histogram.
+    @GetMapping("/facets")
+    public FacetResultDTO getFacets(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(defaultValue = "false") boolean inStock,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "50") double bucketWidth) {
+        return productService.getFacets(category, minPrice, maxPrice, inStock, cursor, size, bucketWidth);
     }
     @GetMapping("/name/{name}")
-    public List<Product> getProductsByName(@PathVariable String name) {
-        return productService.getProductsByName(name);
+    public List<ProductListDTO> getProductsByName(@PathVariable String name) {
+        return toListDTOs(productService.getProductsByName(name));
     }
     @GetMapping("/description/{description}")
-    public List<Product> getProductsByDescription(@PathVariable String description) {
-        return productService.getProductsByDescription(description);
+    public List<ProductListDTO> getProductsByDescription(@PathVariable String description) {
+        return toListDTOs(productService.getProductsByDescription(description));
     }
     @GetMapping("/rating/{rating}")
-    public List<Product> getProductsByRating(@PathVariable double rating) {
-        return productService.getProductsByRating(rating);
+    public List<ProductListDTO> getProductsByRating(@PathVariable double rating) {
+        return toListDTOs(productService.getProductsByRating(rating));
+    }
+    @GetMapping("/cache/stats")
+    public Map<String, Map<String, Long>> getCacheStats() {
+        return productService.getCacheStats();
+    }
+    @GetMapping("/top-rated/{category}")
+    public List<ProductListDTO> getTopRatedInCategory(@PathVariable String category,
+                                                      @RequestParam(defaultValue = "10") int limit) {
+        return toListDTOs(productService.getTopRatedInCategory(category, limit));
+    }
+    @GetMapping("/{id}/rating")
+    public ProductRating getProductRating(@PathVariable String id) {
+        return productService.getProductRating(id);
+    }
+    // Served from the in-memory co-purchase index; no SQL per request.
+    @GetMapping("/{id}/bought-together")
+    public List<CoPurchaseDTO> getBoughtTogether(@PathVariable String id,
+                                                 @RequestParam(defaultValue = "10") int limit) {
+        return productService.getBoughtTogether(id, limit);
+    }
+    @PostMapping("/ratings/rebuild")
+    public int rebuildRatings() {
+        return productService.rebuildRatings();
     }
     @DeleteMapping("/delete/{id}")
     public void deleteProduct(@PathVariable String id) {
         productService.deleteProduct(id);
     }
 
+    private static List<ProductListDTO> toListDTOs(List<Product> products) {
+        return products.stream().map(ProductListDTO::from).toList();
+    }
+
 }
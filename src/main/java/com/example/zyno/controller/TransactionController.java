@@ -1,9 +1,16 @@
 package com.example.zyno.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.zyno.model.Transaction;
 import com.example.zyno.service.TransactionService;
 
 @RestController
@@ -11,5 +18,25 @@ import com.example.zyno.service.TransactionService;
 public class TransactionController {
     @Autowired
     private TransactionService transactionService;
-    
+
+    @PostMapping("/pay")
+    public ResponseEntity<Transaction> pay(
+            @RequestHeader("Idempotency-Key") String idempotencyKey,
+            @RequestParam String orderId,
+            @RequestParam String paymentMethod
+    ) {
+        Transaction transaction = transactionService.pay(orderId, idempotencyKey, paymentMethod);
+        if (transaction == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.accepted().body(transaction);
+    }
+    @GetMapping("/{id}")
+    public Transaction getTransactionById(@PathVariable String id) {
+        return transactionService.getTransactionById(id);
+    }
+    @GetMapping("/order/{orderId}")
+    public Transaction getTransactionByOrderId(@PathVariable String orderId) {
+        return transactionService.getTransactionByOrderId(orderId);
+    }
 }
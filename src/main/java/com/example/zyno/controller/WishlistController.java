@@ -0,0 +1,60 @@
+package com.example.zyno.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.zyno.dto.CursorPageDTO;
+import com.example.zyno.dto.ProductListDTO;
+import com.example.zyno.dto.WishlistBatchDTO;
+import com.example.zyno.service.WishlistService;
+
+@RestController
+@RequestMapping("/wishlist")
+public class WishlistController {
+    @Autowired
+    private WishlistService wishlistService;
+
+    @GetMapping("/user/{userId}")
+    public CursorPageDTO<ProductListDTO> getWishlist(
+            @PathVariable String userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return wishlistService.getWishlist(userId, cursor, size);
+    }
+    @GetMapping("/user/{userId}/{productId}")
+    public boolean contains(@PathVariable String userId, @PathVariable String productId) {
+        return wishlistService.contains(userId, productId);
+    }
+    // Which of the given products are on the wishlist, e.g. for the hearts on a product grid.
+    @PostMapping("/user/{userId}/contains")
+    public List<String> findContained(@PathVariable String userId, @RequestBody List<String> productIds) {
+        return wishlistService.findContained(userId, productIds);
+    }
+    @PutMapping("/user/{userId}/{productId}")
+    public boolean add(@PathVariable String userId, @PathVariable String productId) {
+        return wishlistService.add(userId, productId);
+    }
+    @DeleteMapping("/user/{userId}/{productId}")
+    public boolean remove(@PathVariable String userId, @PathVariable String productId) {
+        return wishlistService.remove(userId, productId);
+    }
+    @PostMapping("/user/{userId}/batch")
+    public Map<String, Integer> applyBatch(@PathVariable String userId, @RequestBody WishlistBatchDTO batch) {
+        return wishlistService.applyBatch(userId, batch);
+    }
+    @GetMapping("/product/{productId}/count")
+    public long getWishCount(@PathVariable String productId) {
+        return wishlistService.getWishCount(productId);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.zyno.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Desired quantity of one product in the cart; zero or less removes the line.
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CartBatchItemDTO {
+    private String productId;
+    private int quantity;
+}
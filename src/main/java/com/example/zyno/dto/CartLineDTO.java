@@ -0,0 +1,17 @@
+package com.example.zyno.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CartLineDTO {
+    private Long cartItemId;
+    private String productId;
+    private String productName;
+    private double price;
+    private int quantity;
+    private double lineTotal;
+}
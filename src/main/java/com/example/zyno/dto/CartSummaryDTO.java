@@ -0,0 +1,17 @@
+package com.example.zyno.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CartSummaryDTO {
+    private String userId;
+    private List<CartLineDTO> lines;
+    private double subtotal;
+    private int itemCount;
+}
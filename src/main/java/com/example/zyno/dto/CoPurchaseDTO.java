@@ -0,0 +1,5 @@
+package com.example.zyno.dto;
+
+// A product bought in the same order as the one being viewed, and in how many orders that happened.
+public record CoPurchaseDTO(String productId, int orders) {
+}
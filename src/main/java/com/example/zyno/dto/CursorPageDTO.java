@@ -0,0 +1,16 @@
+package com.example.zyno.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageDTO<T> {
+    private List<T> items;
+    private String nextCursor;
+    private int size;
+}
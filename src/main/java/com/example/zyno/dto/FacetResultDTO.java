@@ -0,0 +1,13 @@
+package com.example.zyno.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A faceted catalog page. {@code total} counts every product matching all filters. Category counts
+ * ignore the category filter and price buckets ignore the price filter, so a client can show how
+ * many products the other choices would return.
+ */
+public record FacetResultDTO(List<ProductListDTO> items, String nextCursor, int total,
+                             Map<String, Integer> categoryCounts, List<PriceBucketDTO> priceBuckets) {
+}
@@ -0,0 +1,9 @@
+package com.example.zyno.dto;
+
+// Jackson filter id for DTOs that honour the ?fields= selector (applied by FieldSelectionAdvice).
+public final class FieldFilter {
+    public static final String ID = "fields";
+
+    private FieldFilter() {
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.zyno.dto;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+
+// Image metadata without the owning Product; the bytes come from /images/download/{id}?v={contentHash}.
+@JsonFilter(FieldFilter.ID)
+public record ImageDTO(Long id, String fileName, String contentType, long size, String contentHash,
+                       Instant updatedAt, String productId) {
+}
@@ -0,0 +1,21 @@
+package com.example.zyno.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderExportDTO {
+    private String orderId;
+    private String username;
+    private String address;
+    private int quantity;
+    private double totalAmount;
+    private LocalDateTime orderDate;
+    private LocalDate expectedDelivery;
+}
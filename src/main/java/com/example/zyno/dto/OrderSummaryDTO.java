@@ -0,0 +1,34 @@
+package com.example.zyno.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class OrderSummaryDTO {
+    private String orderId;
+    private String username;
+    private String address;
+    private int quantity;
+    private double totalAmount;
+    private LocalDateTime orderDate;
+    private LocalDate expectedDelivery;
+    private List<ProductSummaryDTO> products = new ArrayList<>();
+
+    // Used by the JPQL constructor expressions in OrderRepository; products are attached afterwards.
+    public OrderSummaryDTO(String orderId, String username, String address, int quantity, double totalAmount,
+                           LocalDateTime orderDate, LocalDate expectedDelivery) {
+        this.orderId = orderId;
+        this.username = username;
+        this.address = address;
+        this.quantity = quantity;
+        this.totalAmount = totalAmount;
+        this.orderDate = orderDate;
+        this.expectedDelivery = expectedDelivery;
+    }
+}
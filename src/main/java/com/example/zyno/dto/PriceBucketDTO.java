@@ -0,0 +1,5 @@
+package com.example.zyno.dto;
+
+// One price histogram bar: products priced in [from, to); the last bucket is open-ended (to is null).
+public record PriceBucketDTO(double from, Double to, int count) {
+}
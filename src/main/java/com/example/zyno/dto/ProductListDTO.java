@@ -0,0 +1,14 @@
+package com.example.zyno.dto;
+
+import com.example.zyno.model.Product;
+import com.fasterxml.jackson.annotation.JsonFilter;
+
+// What a product card renders; the description and relations stay on GET /products/{id}.
+@JsonFilter(FieldFilter.ID)
+public record ProductListDTO(String productId, String productName, String category, double price, int stockQuantity) {
+
+    public static ProductListDTO from(Product product) {
+        return new ProductListDTO(product.getProductId(), product.getProductName(), product.getCategory(),
+            product.getPrice(), product.getStockQuantity());
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.zyno.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductSummaryDTO {
+    private String productId;
+    private String productName;
+    private double price;
+}
@@ -0,0 +1,15 @@
+package com.example.zyno.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SalesTotalDTO {
+    private String key;
+    private long units;
+    private double revenue;
+    private long orderCount;
+}
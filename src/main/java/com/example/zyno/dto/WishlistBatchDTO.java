@@ -0,0 +1,15 @@
+package com.example.zyno.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class WishlistBatchDTO {
+    private List<String> add;
+    private List<String> remove;
+}
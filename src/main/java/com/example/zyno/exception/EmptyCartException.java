@@ -0,0 +1,11 @@
+package com.example.zyno.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class EmptyCartException extends RuntimeException {
+    public EmptyCartException(String userId) {
+        super("Cart is empty for user " + userId);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.zyno.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class InsufficientStockException extends RuntimeException {
+    private final String productId;
+
+    public InsufficientStockException(String productId) {
+        super("Insufficient stock for product " + productId);
+        this.productId = productId;
+    }
+
+    public String getProductId() {
+        return productId;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.zyno.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.GONE)
+public class ReservationExpiredException extends RuntimeException {
+    public ReservationExpiredException(String reservationId) {
+        super("Reservation " + reservationId + " has expired or was already released");
+    }
+}
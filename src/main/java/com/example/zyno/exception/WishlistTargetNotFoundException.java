@@ -0,0 +1,11 @@
+package com.example.zyno.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class WishlistTargetNotFoundException extends RuntimeException {
+    public WishlistTargetNotFoundException(String userId, String productId) {
+        super("No user " + userId + " or product " + productId);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.zyno.id;
+
+import java.security.SecureRandom;
+
+/**
+ * Monotonic ULID source: 48 bits of epoch milliseconds followed by 80 random bits, rendered as
+ * 26 Crockford base32 characters. Ids sort by creation time, so they append to the right edge
+ * of a B-tree index instead of splitting pages at random like UUIDs do. Within the same
+ * millisecond the random part is incremented, keeping ids strictly increasing per node.
+ */
+public final class Ulid {
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static long lastTime;
+    private static long randomHigh; // upper 16 bits of the random part
+    private static long randomLow;  // lower 64 bits of the random part
+
+    private Ulid() {
+    }
+
+    public static synchronized String next() {
+        long now = System.currentTimeMillis();
+        if (now > lastTime) {
+            lastTime = now;
+            randomHigh = RANDOM.nextInt(1 << 16);
+            randomLow = RANDOM.nextLong();
+        } else if (++randomLow == 0 && ++randomHigh == 1 << 16) {
+            // random space exhausted within one millisecond: borrow the next one
+            lastTime++;
+            randomHigh = 0;
+        }
+        return encode(lastTime, randomHigh, randomLow);
+    }
+
+    static String encode(long time, long high, long low) {
+        char[] out = new char[26];
+        // 10 characters of timestamp (50 bits, top two always zero)
+        for (int i = 9; i >= 0; i--) {
+            out[i] = ALPHABET[(int) (time & 31)];
+            time >>>= 5;
+        }
+        // 16 characters of randomness (80 bits: 16 high + 64 low)
+        for (int i = 25; i >= 10; i--) {
+            out[i] = ALPHABET[(int) (low & 31)];
+            low = (low >>> 5) | ((high & 31) << 59);
+            high >>>= 5;
+        }
+        return new String(out);
+    }
+}
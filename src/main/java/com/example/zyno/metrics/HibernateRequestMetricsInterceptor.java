@@ -0,0 +1,71 @@
+package com.example.zyno.metrics;
+
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Records, per endpoint, how many SQL statements a request issued and how many entities its
+// open-in-view session ended up managing. Must run inside the open-in-view interceptor so the
+// session is still bound in afterCompletion.
+//
+// Statements are counted per thread, so only synchronous requests are recorded. Requests that go
+// async (StreamingResponseBody such as GET /orders/export, Callable, DeferredResult) run their
+// queries on another thread and are left out rather than reported with a partial count.
+public class HibernateRequestMetricsInterceptor implements AsyncHandlerInterceptor {
+    // Fixed buckets instead of a full percentile histogram: the ~276 default buckets would be
+    // published for every method/uri pair of both summaries.
+    private static final double[] BUCKETS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000};
+
+    private final StatementCounter statementCounter;
+    private final EntityManagerFactory entityManagerFactory;
+    private final MeterRegistry meterRegistry;
+
+    public HibernateRequestMetricsInterceptor(StatementCounter statementCounter,
+                                              EntityManagerFactory entityManagerFactory,
+                                              MeterRegistry meterRegistry) {
+        this.statementCounter = statementCounter;
+        this.entityManagerFactory = entityManagerFactory;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        statementCounter.reset();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of("method", request.getMethod(), "uri", pattern != null ? pattern.toString() : "UNKNOWN");
+        summary("hibernate.request.statements", "SQL statements prepared per request", tags)
+            .record(statementCounter.current());
+        if (TransactionSynchronizationManager.getResource(entityManagerFactory) instanceof EntityManagerHolder holder
+                && holder.getEntityManager().isOpen()) {
+            int entities = holder.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount();
+            summary("hibernate.request.entities", "Entities in the persistence context at the end of a request", tags)
+                .record(entities);
+        }
+    }
+
+    private DistributionSummary summary(String name, String description, Tags tags) {
+        return DistributionSummary.builder(name)
+            .description(description)
+            .tags(tags)
+            .serviceLevelObjectives(BUCKETS)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.zyno.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Counts the SQL statements Hibernate prepares on the current thread. Hibernate's own Statistics are
+// global, so this is what lets a request report the queries it issued itself.
+public class StatementCounter implements StatementInspector {
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    public void reset() {
+        COUNT.get()[0] = 0;
+    }
+    public int current() {
+        return COUNT.get()[0];
+    }
+}
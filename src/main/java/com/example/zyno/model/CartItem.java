@@ -5,16 +5,22 @@ import lombok.Data;
 
 @Entity
 @Data
+@Table(indexes = {
+    @Index(name = "idx_cart_item_user_product", columnList = "user_id, product_id"),
+    @Index(name = "idx_cart_item_product", columnList = "product_id")
+})
 public class CartItem {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @ManyToOne
+    @JoinColumn(name = "user_id")
     private User user;
 
     @ManyToOne
+    @JoinColumn(name = "product_id")
     private Product product;
 
     private int quantity;
-}
\ No newline at end of file
+}
@@ -1,29 +1,40 @@
 package com.example.zyno.model;
 
+import java.time.Instant;
+
+import org.hibernate.annotations.UpdateTimestamp;
+
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.Lob;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Data;
 
 @Entity
 @Data
-@Table(name = "Images")
+@Table(name = "Images", indexes = @Index(name = "idx_images_content_hash", columnList = "contentHash"))
 public class Image {
 
+    // IDENTITY ids disable Hibernate insert batching, so ids come from a pooled generator instead.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "image_seq")
+    @SequenceGenerator(name = "image_seq", allocationSize = 50)
     private Long id;
 
-    @Lob
-    private byte[] data;
+    // SHA-256 of the bytes, which doubles as the BlobStorage key; the table only keeps metadata.
+    private String contentHash;
+    private long size;
 
     private String fileName;
     private String contentType;
 
+    @UpdateTimestamp
+    private Instant updatedAt;
+
     @ManyToOne
     private Product product;
-}
\ No newline at end of file
+}
@@ -0,0 +1,17 @@
+package com.example.zyno.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+@Entity
+@Data
+@Table(name = "ImageBlobs")
+public class ImageBlob {
+    @Id
+    private String contentHash;
+    private long size;
+    // Number of Image rows sharing this blob; the file is removed when it reaches zero.
+    private int refCount;
+}
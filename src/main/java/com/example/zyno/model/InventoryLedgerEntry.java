@@ -0,0 +1,27 @@
+package com.example.zyno.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// A confirmed stock decrement for a hot product that has not been applied to Product yet.
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "InventoryLedger")
+public class InventoryLedgerEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private String productId;
+    private int quantity;
+
+    public InventoryLedgerEntry(String productId, int quantity) {
+        this.productId = productId;
+        this.quantity = quantity;
+    }
+}
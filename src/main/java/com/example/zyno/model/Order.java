@@ -4,21 +4,26 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.example.zyno.id.TimeOrderedId;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
-import jakarta.persistence.OneToOne;
+import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.Data;
 
 @Entity
-@Table(name = "Orders")
+@Table(name = "Orders", indexes = @Index(name = "idx_orders_order_date", columnList = "orderDate"))
 @Data
 public class Order {
     @Id
+    @TimeOrderedId
     private String orderId;
     private String userId;
     private String productId;
@@ -29,8 +34,8 @@ public class Order {
     private LocalDate expectedDelivery;
 
     @JsonIgnore
-    @OneToOne(mappedBy = "order")
-    private Transaction transaction;
+    @OneToMany(mappedBy = "order")
+    private List<Transaction> transactions;
 
     @ManyToOne(targetEntity = User.class)
     private User user;
@@ -0,0 +1,39 @@
+package com.example.zyno.model;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One order line's share of the sales rollups, fixed when the order is placed. Retracting the order
+// and rebuilding the rollups both read these rows instead of splitting by the current product price.
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "OrderLineSales", indexes = @Index(name = "idx_order_line_sales_order", columnList = "orderId"))
+public class OrderLineSale {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private String orderId;
+    private String productId;
+    private String category;
+    private LocalDate salesDate;
+    private long units;
+    private double revenue;
+
+    public OrderLineSale(String orderId, String productId, String category, LocalDate salesDate, long units, double revenue) {
+        this.orderId = orderId;
+        this.productId = productId;
+        this.category = category;
+        this.salesDate = salesDate;
+        this.units = units;
+        this.revenue = revenue;
+    }
+}
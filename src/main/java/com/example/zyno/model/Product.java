@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
@@ -13,7 +14,13 @@ import lombok.Data;
 
 @Entity
 @Data
-@Table(name = "Product")
+@Table(name = "Product", indexes = {
+    @Index(name = "idx_product_category_price", columnList = "category, price"),
+    // serves ProductRepository.search: equality on category, rows already in productId (cursor) order
+    @Index(name = "idx_product_category_id", columnList = "category, productId"),
+    @Index(name = "idx_product_price", columnList = "price"),
+    @Index(name = "idx_product_name", columnList = "productName")
+})
 public class Product {
 
     @Id
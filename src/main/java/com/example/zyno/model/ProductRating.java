@@ -0,0 +1,24 @@
+package com.example.zyno.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+// Per-product review aggregate kept in step with the Review table by ReviewService.
+@Entity
+@Data
+@Table(name = "ProductRatings", indexes = @Index(name = "idx_product_ratings_average", columnList = "averageRating"))
+public class ProductRating {
+    @Id
+    private String productId;
+    private long reviewCount;
+    private long ratingSum;
+    private double averageRating;
+    private long stars1;
+    private long stars2;
+    private long stars3;
+    private long stars4;
+    private long stars5;
+}
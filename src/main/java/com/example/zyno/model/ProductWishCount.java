@@ -0,0 +1,16 @@
+package com.example.zyno.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+// "Wished by N users", kept in step with user_wishlist by WishlistService.
+@Entity
+@Data
+@Table(name = "ProductWishCounts")
+public class ProductWishCount {
+    @Id
+    private String productId;
+    private long wishCount;
+}
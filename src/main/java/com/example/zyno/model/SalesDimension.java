@@ -0,0 +1,7 @@
+package com.example.zyno.model;
+
+public enum SalesDimension {
+    TOTAL,
+    PRODUCT,
+    CATEGORY
+}
@@ -0,0 +1,32 @@
+package com.example.zyno.model;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+// Daily sales per product, per category and overall, kept in step with Orders by SalesRollupService.
+// TOTAL rows use an empty dimensionKey; CATEGORY rows use an empty key for uncategorised products.
+@Entity
+@Data
+@IdClass(SalesRollupId.class)
+@Table(name = "SalesRollups", indexes = @Index(name = "idx_sales_rollups_dimension_date",
+    columnList = "dimension, dimensionKey, salesDate"))
+public class SalesRollup {
+    @Id
+    private LocalDate salesDate;
+    @Id
+    @Enumerated(EnumType.STRING)
+    private SalesDimension dimension;
+    @Id
+    private String dimensionKey;
+    private long units;
+    private double revenue;
+    private long orderCount;
+}
@@ -0,0 +1,17 @@
+package com.example.zyno.model;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SalesRollupId implements Serializable {
+    private LocalDate salesDate;
+    private SalesDimension dimension;
+    private String dimensionKey;
+}
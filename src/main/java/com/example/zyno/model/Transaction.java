@@ -1,20 +1,55 @@
 package com.example.zyno.model;
 
+import java.time.Instant;
+
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import com.example.zyno.id.TimeOrderedId;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.OneToOne;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.Data;
 
 @Entity
 @Data
+@Table(indexes = @Index(name = "idx_transaction_status", columnList = "status"))
 public class Transaction {
     @Id
+    @TimeOrderedId
     private String transactionId;
     private Double amount;
     private String paymentMethod;
 
-    @OneToOne
+    // Client-chosen key; a retried request with the same key returns this row instead of charging again.
+    @Column(unique = true)
+    private String idempotencyKey;
+    @Enumerated(EnumType.STRING)
+    private TransactionStatus status;
+    private String gatewayReference;
+    private String failureReason;
+    @CreationTimestamp
+    private Instant createdAt;
+    @UpdateTimestamp
+    private Instant updatedAt;
+
+    // An order keeps every payment attempt: a retry after FAILED is a new row, not an overwrite.
+    @JsonIgnore
+    @ManyToOne
     @JoinColumn(name = "order_id")
     private Order order;
+
+    @JsonProperty("orderId")
+    public String getOrderReference() {
+        return order != null ? order.getOrderId() : null;
+    }
 }
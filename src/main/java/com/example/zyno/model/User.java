@@ -11,6 +11,7 @@ import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Data;
 
 @Entity
@@ -28,14 +29,16 @@ public class User {
     private String lastname;
 
     @JsonIgnore
-    @OneToMany(mappedBy = "userId")
+    @OneToMany(mappedBy = "user")
     private List<Order> orders;
+    // Written one row at a time through WishlistRepository; the unique key gives the table set semantics.
     @JsonIgnore
     @ManyToMany
     @JoinTable(
         name = "user_wishlist",
         joinColumns = @JoinColumn(name = "user_id"),
-        inverseJoinColumns = @JoinColumn(name = "product_id")
+        inverseJoinColumns = @JoinColumn(name = "product_id"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_wishlist", columnNames = {"user_id", "product_id"})
     )
     private List<Product> wishlist;
     @JsonIgnore
@@ -0,0 +1,55 @@
+package com.example.zyno.payment;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stand-in gateway for local runs and tests. It sleeps for the configured latency, declines
+ * non-positive amounts, and remembers results per idempotency key like a real provider. The first
+ * request for a key claims it with an incomplete future and charges outside the map, so a slow
+ * charge never holds a map bin that other keys hash to; repeats of the key wait on that future.
+ */
+@Component
+public class LocalPaymentGateway implements PaymentGateway {
+    private final Map<String, CompletableFuture<PaymentResult>> results = new ConcurrentHashMap<>();
+    private final AtomicLong charges = new AtomicLong();
+    private final long latencyMillis;
+
+    public LocalPaymentGateway(@Value("${zyno.payments.local.latency-ms:200}") long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public PaymentResult charge(PaymentRequest request) {
+        CompletableFuture<PaymentResult> claim = new CompletableFuture<>();
+        CompletableFuture<PaymentResult> existing = results.putIfAbsent(request.idempotencyKey(), claim);
+        if (existing != null) {
+            return existing.join();
+        }
+        PaymentResult result = process(request);
+        claim.complete(result);
+        return result;
+    }
+
+    private PaymentResult process(PaymentRequest request) {
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return PaymentResult.failure("Interrupted");
+        }
+        if (request.amount() <= 0) {
+            return PaymentResult.failure("Amount must be positive");
+        }
+        return PaymentResult.success("local-" + charges.incrementAndGet());
+    }
+
+    public long getChargeCount() {
+        return charges.get();
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.zyno.payment;
+
+/**
+ * Charges a payment with an external provider. Implementations must treat
+ * {@link PaymentRequest#idempotencyKey()} as the provider's idempotency key, so a request that is
+ * sent twice is charged once.
+ */
+public interface PaymentGateway {
+
+    PaymentResult charge(PaymentRequest request);
+}
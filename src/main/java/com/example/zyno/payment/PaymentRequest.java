@@ -0,0 +1,4 @@
+package com.example.zyno.payment;
+
+public record PaymentRequest(String transactionId, String idempotencyKey, double amount, String paymentMethod) {
+}
@@ -0,0 +1,12 @@
+package com.example.zyno.payment;
+
+public record PaymentResult(boolean succeeded, String reference, String failureReason) {
+
+    public static PaymentResult success(String reference) {
+        return new PaymentResult(true, reference, null);
+    }
+
+    public static PaymentResult failure(String reason) {
+        return new PaymentResult(false, null, reason);
+    }
+}
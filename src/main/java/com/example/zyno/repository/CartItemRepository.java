@@ -1,9 +1,35 @@
 package com.example.zyno.repository;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.zyno.dto.CartLineDTO;
 import com.example.zyno.model.CartItem;
 
 public interface CartItemRepository extends JpaRepository<CartItem, Long> {
-    
-    // Additional query methods can be defined here if neede
-    
+
+    @EntityGraph(attributePaths = {"user", "product"})
+    List<CartItem> findByUserUsername(String username);
+
+    @EntityGraph(attributePaths = {"user", "product"})
+    List<CartItem> findByProductProductId(String productId);
+
+    @EntityGraph(attributePaths = {"user", "product"})
+    List<CartItem> findByProductCategory(String category);
+
+    @EntityGraph(attributePaths = {"user", "product"})
+    List<CartItem> findByProductPriceBetween(double minPrice, double maxPrice);
+
+    @EntityGraph(attributePaths = {"user", "product"})
+    List<CartItem> findByProductProductNameContainingIgnoreCase(String name);
+
+    @EntityGraph(attributePaths = {"user", "product"})
+    List<CartItem> findByProductProductDescriptionContainingIgnoreCase(String description);
+
+    @Query("SELECT new com.example.zyno.dto.CartLineDTO(c.id, p.productId, p.productName, p.price, c.quantity,"
+        + " p.price * c.quantity) FROM CartItem c JOIN c.product p WHERE c.user.username = :username ORDER BY c.id")
+    List<CartLineDTO> findLinesByUsername(@Param("username") String username);
 }
@@ -0,0 +1,35 @@
+package com.example.zyno.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.zyno.model.ImageBlob;
+
+import jakarta.persistence.LockModeType;
+
+public interface ImageBlobRepository extends JpaRepository<ImageBlob, String> {
+
+    @Modifying
+    @Query(value = "INSERT INTO image_blobs (content_hash, size, ref_count) VALUES (:hash, :size, 1)"
+        + " ON DUPLICATE KEY UPDATE ref_count = ref_count + 1", nativeQuery = true)
+    int acquire(@Param("hash") String contentHash, @Param("size") long size);
+
+    @Modifying
+    @Query("UPDATE ImageBlob b SET b.refCount = b.refCount - 1 WHERE b.contentHash = :hash AND b.refCount > 0")
+    int release(@Param("hash") String contentHash);
+
+    @Modifying
+    @Query("DELETE FROM ImageBlob b WHERE b.contentHash = :hash AND b.refCount <= 0")
+    int deleteIfUnreferenced(@Param("hash") String contentHash);
+
+    // Locking read before a file is unlinked: it waits out an uncommitted acquire of the same hash and
+    // then sees its row, and while no row exists it holds back new acquires until the unlink commits.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM ImageBlob b WHERE b.contentHash = :hash")
+    Optional<ImageBlob> lockByHash(@Param("hash") String contentHash);
+}
@@ -1,9 +1,27 @@
 package com.example.zyno.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.example.zyno.dto.ImageDTO;
 import com.example.zyno.model.Image;
 
 public interface ImageRepository extends JpaRepository<Image, Long> {
 
+    String SUMMARY = "SELECT new com.example.zyno.dto.ImageDTO(i.id, i.fileName, i.contentType, i.size,"
+        + " i.contentHash, i.updatedAt, p.productId) FROM Image i LEFT JOIN i.product p";
+
+    List<Image> findByContentHash(String contentHash);
+
+    @Query(SUMMARY + " ORDER BY i.id")
+    List<ImageDTO> findAllSummaries();
+
+    @Query(SUMMARY + " WHERE p.productId = :productId ORDER BY i.id")
+    List<ImageDTO> findSummariesByProductId(@Param("productId") String productId);
+
+    @Query(SUMMARY + " WHERE i.contentType = :contentType ORDER BY i.id")
+    List<ImageDTO> findSummariesByContentType(@Param("contentType") String contentType);
 }
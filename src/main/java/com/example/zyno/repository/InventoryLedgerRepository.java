@@ -0,0 +1,12 @@
+package com.example.zyno.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.example.zyno.model.InventoryLedgerEntry;
+
+public interface InventoryLedgerRepository extends JpaRepository<InventoryLedgerEntry, Long> {
+
+    List<InventoryLedgerEntry> findTop5000ByOrderByIdAsc();
+}
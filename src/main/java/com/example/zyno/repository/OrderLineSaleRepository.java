@@ -0,0 +1,48 @@
+package com.example.zyno.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.zyno.model.OrderLineSale;
+
+public interface OrderLineSaleRepository extends JpaRepository<OrderLineSale, Long> {
+
+    // One line per order_products row, split the way SalesRollupService splits a new order. A single-product
+    // order carries the order quantity; otherwise each line counts as one unit, and the order total is
+    // split across lines in proportion to product price.
+    String ORDER_LINES = "SELECT o.order_id, CAST(o.order_date AS DATE) AS sales_date, p.product_id,"
+        + " COALESCE(p.category, '') AS category,"
+        + " CASE WHEN t.line_count = 1 THEN o.quantity ELSE 1 END AS units,"
+        + " CASE WHEN t.price_sum > 0 THEN o.total_amount * p.price / t.price_sum"
+        + " ELSE o.total_amount / t.line_count END AS revenue"
+        + " FROM orders o JOIN order_products l ON l.order_id = o.order_id"
+        + " JOIN product p ON p.product_id = l.product_id"
+        + " JOIN (SELECT op.order_id, COUNT(*) AS line_count, SUM(pp.price) AS price_sum FROM order_products op"
+        + " JOIN product pp ON pp.product_id = op.product_id GROUP BY op.order_id) t ON t.order_id = o.order_id"
+        + " WHERE o.order_date IS NOT NULL";
+
+    List<OrderLineSale> findByOrderId(String orderId);
+
+    @Modifying
+    @Query("DELETE FROM OrderLineSale l WHERE l.orderId = :orderId")
+    void deleteByOrderId(@Param("orderId") String orderId);
+
+    // Records lines for orders written without going through SalesRollupService (bulk loads, rows from
+    // before lines were recorded), at the current product prices.
+    @Modifying
+    @Query(value = "INSERT INTO order_line_sales (order_id, product_id, category, sales_date, units, revenue)"
+        + " SELECT x.order_id, x.product_id, x.category, x.sales_date, x.units, x.revenue FROM (" + ORDER_LINES + ") x"
+        + " WHERE NOT EXISTS (SELECT 1 FROM order_line_sales s WHERE s.order_id = x.order_id)",
+        nativeQuery = true)
+    int insertMissingLines();
+
+    @Modifying
+    @Query(value = "DELETE FROM order_line_sales WHERE NOT EXISTS"
+        + " (SELECT 1 FROM orders o WHERE o.order_id = order_line_sales.order_id)",
+        nativeQuery = true)
+    int deleteOrphanedLines();
+}
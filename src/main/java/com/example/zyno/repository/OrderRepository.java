@@ -1,12 +1,72 @@
 package com.example.zyno.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 import org.springframework.stereotype.Repository;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.example.zyno.dto.OrderExportDTO;
+import com.example.zyno.dto.OrderSummaryDTO;
 import com.example.zyno.model.Order;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface OrderRepository extends JpaRepository<Order, String> {
-    
-    // Additional query methods can be defined here if needed
-    
+
+    String SUMMARY = "SELECT new com.example.zyno.dto.OrderSummaryDTO(o.orderId, u.username, o.address,"
+        + " o.quantity, o.totalAmount, o.orderDate, o.expectedDelivery) FROM Order o LEFT JOIN o.user u";
+
+    @EntityGraph(attributePaths = {"user", "products"})
+    Optional<Order> findWithDetailsByOrderId(String orderId);
+
+    @Query(SUMMARY + " ORDER BY o.orderDate DESC")
+    List<OrderSummaryDTO> findAllSummaries();
+
+    @Query(SUMMARY + " WHERE u.username = :username ORDER BY o.orderDate DESC")
+    List<OrderSummaryDTO> findSummariesByUsername(@Param("username") String username);
+
+    @Query(SUMMARY + " WHERE o.orderId IN (SELECT o2.orderId FROM Order o2 JOIN o2.products p WHERE p.productId = :productId)"
+        + " ORDER BY o.orderDate DESC")
+    List<OrderSummaryDTO> findSummariesByProductId(@Param("productId") String productId);
+
+    // Forward-only cursor: rows are fetched from the server in chunks of the fetch size as the
+    // stream is consumed (needs useCursorFetch=true on MySQL) and must be read in a transaction.
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+        @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT new com.example.zyno.dto.OrderExportDTO(o.orderId, u.username, o.address, o.quantity,"
+        + " o.totalAmount, o.orderDate, o.expectedDelivery) FROM Order o LEFT JOIN o.user u"
+        + " WHERE (:from IS NULL OR o.orderDate >= :from) AND (:to IS NULL OR o.orderDate < :to)"
+        + " ORDER BY o.orderDate")
+    Stream<OrderExportDTO> streamForExport(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // One row per order line (orderId, productId), grouped by order, for rebuilding the co-purchase index.
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+        @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query(value = "SELECT order_id, product_id FROM order_products ORDER BY order_id", nativeQuery = true)
+    Stream<Object[]> streamOrderLines();
+
+    // One row per order line: orderId, productId, productName, price.
+    @Query("SELECT o.orderId, p.productId, p.productName, p.price FROM Order o JOIN o.products p"
+        + " WHERE o.orderId IN :orderIds")
+    List<Object[]> findProductLines(@Param("orderIds") Collection<String> orderIds);
+
+    // Serializes payment attempts for one order.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.orderId = :orderId")
+    Optional<Order> lockById(@Param("orderId") String orderId);
 }
@@ -0,0 +1,55 @@
+package com.example.zyno.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.zyno.model.Product;
+import com.example.zyno.model.ProductRating;
+
+public interface ProductRatingRepository extends JpaRepository<ProductRating, String> {
+
+    // MySQL applies the assignments left to right, so the average sees the updated sum and count.
+    @Modifying
+    @Query(value = "INSERT INTO product_ratings"
+        + " (product_id, review_count, rating_sum, average_rating, stars1, stars2, stars3, stars4, stars5)"
+        + " VALUES (:productId, :count, :sum, CASE WHEN :count > 0 THEN 1.0 * :sum / :count ELSE 0 END,"
+        + " :s1, :s2, :s3, :s4, :s5)"
+        + " ON DUPLICATE KEY UPDATE review_count = review_count + :count, rating_sum = rating_sum + :sum,"
+        + " stars1 = stars1 + :s1, stars2 = stars2 + :s2, stars3 = stars3 + :s3,"
+        + " stars4 = stars4 + :s4, stars5 = stars5 + :s5,"
+        + " average_rating = CASE WHEN review_count > 0 THEN 1.0 * rating_sum / review_count ELSE 0 END",
+        nativeQuery = true)
+    void applyDelta(@Param("productId") String productId, @Param("count") long count, @Param("sum") long sum,
+                    @Param("s1") long s1, @Param("s2") long s2, @Param("s3") long s3,
+                    @Param("s4") long s4, @Param("s5") long s5);
+
+    @Modifying
+    @Query(value = "DELETE FROM product_ratings", nativeQuery = true)
+    void deleteAllRatings();
+
+    @Modifying
+    @Query(value = "INSERT INTO product_ratings"
+        + " (product_id, review_count, rating_sum, average_rating, stars1, stars2, stars3, stars4, stars5)"
+        + " SELECT product_id, COUNT(*), SUM(rating), AVG(1.0 * rating),"
+        + " SUM(CASE WHEN rating = 1 THEN 1 ELSE 0 END), SUM(CASE WHEN rating = 2 THEN 1 ELSE 0 END),"
+        + " SUM(CASE WHEN rating = 3 THEN 1 ELSE 0 END), SUM(CASE WHEN rating = 4 THEN 1 ELSE 0 END),"
+        + " SUM(CASE WHEN rating = 5 THEN 1 ELSE 0 END)"
+        + " FROM review GROUP BY product_id", nativeQuery = true)
+    int insertFromReviews();
+
+    // Same meaning as the old in-memory filter: at least one review rated at or above the threshold.
+    @Query("SELECT p FROM Product p, ProductRating r WHERE r.productId = p.productId AND ("
+        + " (:rating <= 1 AND r.stars1 > 0) OR (:rating <= 2 AND r.stars2 > 0) OR (:rating <= 3 AND r.stars3 > 0)"
+        + " OR (:rating <= 4 AND r.stars4 > 0) OR (:rating <= 5 AND r.stars5 > 0))")
+    List<Product> findProductsWithReviewAtLeast(@Param("rating") double rating);
+
+    @Query("SELECT p FROM Product p, ProductRating r WHERE r.productId = p.productId"
+        + " AND p.category = :category AND r.reviewCount > 0"
+        + " ORDER BY r.averageRating DESC, r.reviewCount DESC")
+    List<Product> findTopRatedInCategory(@Param("category") String category, Pageable pageable);
+}
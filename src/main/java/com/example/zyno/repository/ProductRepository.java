@@ -1,10 +1,79 @@
 package com.example.zyno.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import com.example.zyno.dto.ProductListDTO;
 import com.example.zyno.model.Product;
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, String> {
-    
+
+    List<Product> findByCategory(String category);
+
+    List<Product> findByPriceBetween(double minPrice, double maxPrice);
+
+    // Succeeds only while enough stock is left, so concurrent buyers can never drive it negative.
+    @Modifying
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity - :quantity"
+        + " WHERE p.productId = :productId AND p.stockQuantity >= :quantity")
+    int reserveStock(@Param("productId") String productId, @Param("quantity") int quantity);
+
+    // Applies flushed ledger decrements; 0 means the row no longer has that much stock and nothing changed.
+    @Modifying
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity - :quantity"
+        + " WHERE p.productId = :productId AND p.stockQuantity >= :quantity")
+    int decrementStock(@Param("productId") String productId, @Param("quantity") int quantity);
+
+    @Query("SELECT p.stockQuantity FROM Product p WHERE p.productId = :productId")
+    Integer findStockQuantity(@Param("productId") String productId);
+
+    @Query("SELECT DISTINCT p.category FROM Product p WHERE p.productId IN :productIds AND p.category IS NOT NULL")
+    List<String> findCategories(@Param("productIds") Collection<String> productIds);
+
+    // Stock left once confirmed-but-unflushed ledger decrements are applied, read in one statement
+    // so a flush cannot move quantity between the two numbers.
+    @Query("SELECT p.stockQuantity - COALESCE((SELECT SUM(l.quantity) FROM InventoryLedgerEntry l"
+        + " WHERE l.productId = p.productId), 0) FROM Product p WHERE p.productId = :productId")
+    Long findStockNetOfLedger(@Param("productId") String productId);
+
+    @Query("SELECT p FROM Order o JOIN o.products p WHERE o.orderId = :orderId")
+    List<Product> findByOrderId(@Param("orderId") String orderId);
+
+    @Query("SELECT p.productId, p.productName, p.productDescription FROM Product p")
+    List<Object[]> findSearchableText();
+
+    // The columns of the faceted-browsing snapshot, streamed so a large catalog never sits in the persistence context.
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+        @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT new com.example.zyno.dto.ProductListDTO(p.productId, p.productName, p.category, p.price, p.stockQuantity)"
+        + " FROM Product p")
+    Stream<ProductListDTO> streamFacetColumns();
+
+    // Keyset pagination: callers pass the last productId they saw as the cursor,
+    // so each page is a range scan on the index instead of an OFFSET walk.
+    @Query("SELECT p FROM Product p"
+        + " WHERE (:category IS NULL OR p.category = :category)"
+        + " AND (:minPrice IS NULL OR p.price >= :minPrice)"
+        + " AND (:maxPrice IS NULL OR p.price <= :maxPrice)"
+        + " AND (:name IS NULL OR p.productName LIKE CONCAT(:name, '%'))"
+        + " AND (:cursor IS NULL OR p.productId > :cursor)"
+        + " ORDER BY p.productId")
+    List<Product> search(@Param("category") String category,
+                         @Param("minPrice") Double minPrice,
+                         @Param("maxPrice") Double maxPrice,
+                         @Param("name") String name,
+                         @Param("cursor") String cursor,
+                         Pageable pageable);
 }
@@ -0,0 +1,25 @@
+package com.example.zyno.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.zyno.model.ProductWishCount;
+
+public interface ProductWishCountRepository extends JpaRepository<ProductWishCount, String> {
+
+    @Modifying
+    @Query(value = "INSERT INTO product_wish_counts (product_id, wish_count) VALUES (:productId, :delta)"
+        + " ON DUPLICATE KEY UPDATE wish_count = wish_count + :delta", nativeQuery = true)
+    void applyDelta(@Param("productId") String productId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "DELETE FROM product_wish_counts", nativeQuery = true)
+    void deleteAllCounts();
+
+    @Modifying
+    @Query(value = "INSERT INTO product_wish_counts (product_id, wish_count)"
+        + " SELECT product_id, COUNT(*) FROM user_wishlist GROUP BY product_id", nativeQuery = true)
+    int insertFromWishlist();
+}
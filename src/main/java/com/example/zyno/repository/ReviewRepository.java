@@ -1,8 +1,14 @@
 package com.example.zyno.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
 import com.example.zyno.model.Review;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
-    
-}
\ No newline at end of file
+
+    @Query("SELECT r.id, r.content, r.product.productId FROM Review r")
+    List<Object[]> findSearchableText();
+}
@@ -0,0 +1,64 @@
+package com.example.zyno.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.zyno.dto.SalesTotalDTO;
+import com.example.zyno.model.SalesDimension;
+import com.example.zyno.model.SalesRollup;
+import com.example.zyno.model.SalesRollupId;
+
+public interface SalesRollupRepository extends JpaRepository<SalesRollup, SalesRollupId> {
+
+    @Modifying
+    @Query(value = "INSERT INTO sales_rollups (sales_date, dimension, dimension_key, units, revenue, order_count)"
+        + " VALUES (:salesDate, :dimension, :dimensionKey, :units, :revenue, :orders)"
+        + " ON DUPLICATE KEY UPDATE units = units + :units, revenue = revenue + :revenue,"
+        + " order_count = order_count + :orders",
+        nativeQuery = true)
+    void applyDelta(@Param("salesDate") LocalDate salesDate, @Param("dimension") String dimension,
+                    @Param("dimensionKey") String dimensionKey, @Param("units") long units,
+                    @Param("revenue") double revenue, @Param("orders") long orders);
+
+    @Modifying
+    @Query(value = "DELETE FROM sales_rollups", nativeQuery = true)
+    void deleteAllRollups();
+
+    @Modifying
+    @Query(value = "INSERT INTO sales_rollups (sales_date, dimension, dimension_key, units, revenue, order_count)"
+        + " SELECT CAST(order_date AS DATE), 'TOTAL', '', SUM(quantity), SUM(total_amount), COUNT(*)"
+        + " FROM orders WHERE order_date IS NOT NULL GROUP BY CAST(order_date AS DATE)",
+        nativeQuery = true)
+    int insertTotalsFromOrders();
+
+    @Modifying
+    @Query(value = "INSERT INTO sales_rollups (sales_date, dimension, dimension_key, units, revenue, order_count)"
+        + " SELECT x.sales_date, 'PRODUCT', x.product_id, SUM(x.units), SUM(x.revenue), COUNT(DISTINCT x.order_id)"
+        + " FROM order_line_sales x GROUP BY x.sales_date, x.product_id",
+        nativeQuery = true)
+    int insertProductsFromLines();
+
+    @Modifying
+    @Query(value = "INSERT INTO sales_rollups (sales_date, dimension, dimension_key, units, revenue, order_count)"
+        + " SELECT x.sales_date, 'CATEGORY', x.category, SUM(x.units), SUM(x.revenue), COUNT(DISTINCT x.order_id)"
+        + " FROM order_line_sales x GROUP BY x.sales_date, x.category",
+        nativeQuery = true)
+    int insertCategoriesFromLines();
+
+    @Query("SELECT r FROM SalesRollup r WHERE r.dimension = :dimension AND r.dimensionKey = :key"
+        + " AND r.salesDate BETWEEN :from AND :to ORDER BY r.salesDate")
+    List<SalesRollup> findDaily(@Param("dimension") SalesDimension dimension, @Param("key") String key,
+                                @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT new com.example.zyno.dto.SalesTotalDTO(r.dimensionKey, SUM(r.units), SUM(r.revenue),"
+        + " SUM(r.orderCount)) FROM SalesRollup r WHERE r.dimension = :dimension"
+        + " AND r.salesDate BETWEEN :from AND :to GROUP BY r.dimensionKey ORDER BY SUM(r.revenue) DESC")
+    List<SalesTotalDTO> findTotals(@Param("dimension") SalesDimension dimension,
+                                   @Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
+}
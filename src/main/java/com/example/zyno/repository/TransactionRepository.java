@@ -1,9 +1,31 @@
 package com.example.zyno.repository;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.zyno.model.Transaction;
+import com.example.zyno.model.TransactionStatus;
 
 public interface TransactionRepository extends JpaRepository<Transaction, String> {
-    // Additional query methods can be defined here if needed
+
+    Optional<Transaction> findByIdempotencyKey(String idempotencyKey);
+
+    // Latest attempt for the order; ids are time-ordered.
+    Optional<Transaction> findFirstByOrderOrderIdOrderByTransactionIdDesc(String orderId);
+
+    List<Transaction> findByStatusAndUpdatedAtBefore(TransactionStatus status, Instant updatedBefore);
+
+    // Only a PENDING transaction can be completed, so a duplicate gateway callback is a no-op.
+    @Modifying
+    @Query("UPDATE Transaction t SET t.status = :status, t.gatewayReference = :reference,"
+        + " t.failureReason = :failureReason, t.updatedAt = CURRENT_TIMESTAMP"
+        + " WHERE t.transactionId = :transactionId AND t.status = com.example.zyno.model.TransactionStatus.PENDING")
+    int complete(@Param("transactionId") String transactionId, @Param("status") TransactionStatus status,
+                 @Param("reference") String reference, @Param("failureReason") String failureReason);
 }
@@ -0,0 +1,40 @@
+package com.example.zyno.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import com.example.zyno.dto.ProductListDTO;
+import com.example.zyno.model.User;
+
+// Single-row access to the user_wishlist join table, so no operation loads User.wishlist.
+public interface WishlistRepository extends Repository<User, String> {
+
+    // 1 when the row was inserted, 0 when it already existed (or the user or product does not exist).
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_wishlist (user_id, product_id) VALUES (:userId, :productId)",
+        nativeQuery = true)
+    int add(@Param("userId") String userId, @Param("productId") String productId);
+
+    @Modifying
+    @Query(value = "DELETE FROM user_wishlist WHERE user_id = :userId AND product_id = :productId", nativeQuery = true)
+    int remove(@Param("userId") String userId, @Param("productId") String productId);
+
+    @Query(value = "SELECT COUNT(*) FROM user_wishlist WHERE user_id = :userId AND product_id = :productId",
+        nativeQuery = true)
+    long countEntry(@Param("userId") String userId, @Param("productId") String productId);
+
+    @Query(value = "SELECT product_id FROM user_wishlist WHERE user_id = :userId AND product_id IN (:productIds)",
+        nativeQuery = true)
+    List<String> findContained(@Param("userId") String userId, @Param("productIds") Collection<String> productIds);
+
+    @Query("SELECT new com.example.zyno.dto.ProductListDTO(p.productId, p.productName, p.category, p.price,"
+        + " p.stockQuantity) FROM User u JOIN u.wishlist p WHERE u.username = :userId"
+        + " AND (:cursor IS NULL OR p.productId > :cursor) ORDER BY p.productId")
+    List<ProductListDTO> findPage(@Param("userId") String userId, @Param("cursor") String cursor, Pageable pageable);
+}
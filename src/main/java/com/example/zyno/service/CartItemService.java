@@ -2,14 +2,30 @@ package com.example.zyno.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 import com.example.zyno.repository.CartItemRepository;
+import com.example.zyno.repository.ProductRepository;
+import com.example.zyno.repository.UserRepository;
+import com.example.zyno.dto.CartBatchItemDTO;
+import com.example.zyno.dto.CartLineDTO;
+import com.example.zyno.dto.CartSummaryDTO;
 import com.example.zyno.model.CartItem;
 
 @Service
 public class CartItemService {
     @Autowired
     private CartItemRepository cartItemRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private UserRepository userRepository;
 
     public void addCartItem(CartItem cartItem) {
         cartItemRepository.save(cartItem);
@@ -24,9 +40,7 @@ public class CartItemService {
         return cartItemRepository.findAll();
     }
     public List<CartItem> getCartItemsByUserId(String userId) {
-        return cartItemRepository.findAll().stream()
-            .filter(cartItem -> cartItem.getUser() != null && cartItem.getUser().getUsername().equals(userId))
-            .toList();
+        return cartItemRepository.findByUserUsername(userId);
     }
     public CartItem updateCartItem(CartItem cartItem, Long id) {
         return cartItemRepository.findById(id)
@@ -39,33 +53,58 @@ public class CartItemService {
             .orElse(null);
     }
     public List<CartItem> getCartItemsByProductId(String productId) {
-        return cartItemRepository.findAll().stream()
-            .filter(cartItem -> cartItem.getProduct() != null && cartItem.getProduct().getProductId().equals(productId))
-            .toList();
+        return cartItemRepository.findByProductProductId(productId);
     }
     public List<CartItem> getCartItemsByCategory(String category) {
-        return cartItemRepository.findAll().stream()
-            .filter(cartItem -> cartItem.getProduct() != null && category.equals(cartItem.getProduct().getCategory()))
-            .toList();
+        return cartItemRepository.findByProductCategory(category);
     }
     public List<CartItem> getCartItemsByPriceRange(double minPrice, double maxPrice) {
-        return cartItemRepository.findAll().stream()
-            .filter(cartItem -> cartItem.getProduct() != null && 
-                cartItem.getProduct().getPrice() >= minPrice && 
-                cartItem.getProduct().getPrice() <= maxPrice)
-            .toList();
+        return cartItemRepository.findByProductPriceBetween(minPrice, maxPrice);
     }
     public List<CartItem> getCartItemsByName(String name) {
-        return cartItemRepository.findAll().stream()
-            .filter(cartItem -> cartItem.getProduct() != null && 
-                cartItem.getProduct().getProductName().toLowerCase().contains(name.toLowerCase()))
-            .toList();
+        return cartItemRepository.findByProductProductNameContainingIgnoreCase(name);
     }
     public List<CartItem> getCartItemsByDescription(String description) {
-        return cartItemRepository.findAll().stream()
-            .filter(cartItem -> cartItem.getProduct() != null && 
-                cartItem.getProduct().getProductDescription().toLowerCase().contains(description.toLowerCase()))
-            .toList();
+        return cartItemRepository.findByProductProductDescriptionContainingIgnoreCase(description);
+    }
+    public CartSummaryDTO getCartSummary(String userId) {
+        List<CartLineDTO> lines = cartItemRepository.findLinesByUsername(userId);
+        double subtotal = 0;
+        int itemCount = 0;
+        for (CartLineDTO line : lines) {
+            subtotal += line.getLineTotal();
+            itemCount += line.getQuantity();
+        }
+        return new CartSummaryDTO(userId, lines, subtotal, itemCount);
+    }
+    @Transactional
+    public CartSummaryDTO applyCartBatch(String userId, List<CartBatchItemDTO> items) {
+        Map<String, CartItem> existing = cartItemRepository.findByUserUsername(userId).stream()
+            .collect(Collectors.toMap(cartItem -> cartItem.getProduct().getProductId(), Function.identity(), (a, b) -> a));
+        List<CartItem> toSave = new ArrayList<>();
+        List<CartItem> toDelete = new ArrayList<>();
+        for (CartBatchItemDTO item : items) {
+            CartItem cartItem = existing.get(item.getProductId());
+            if (item.getQuantity() <= 0) {
+                if (cartItem != null) {
+                    toDelete.add(cartItem);
+                    existing.remove(item.getProductId());
+                }
+                continue;
+            }
+            if (cartItem == null) {
+                cartItem = new CartItem();
+                cartItem.setUser(userRepository.getReferenceById(userId));
+                cartItem.setProduct(productRepository.getReferenceById(item.getProductId()));
+                existing.put(item.getProductId(), cartItem);
+            }
+            cartItem.setQuantity(item.getQuantity());
+            toSave.add(cartItem);
+        }
+        cartItemRepository.deleteAllInBatch(toDelete);
+        cartItemRepository.saveAll(toSave);
+        cartItemRepository.flush();
+        return getCartSummary(userId);
     }
 
 }
@@ -0,0 +1,143 @@
+package com.example.zyno.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.zyno.exception.EmptyCartException;
+import com.example.zyno.exception.InsufficientStockException;
+import com.example.zyno.model.CartItem;
+import com.example.zyno.model.Order;
+import com.example.zyno.model.Product;
+import com.example.zyno.repository.CartItemRepository;
+import com.example.zyno.repository.OrderRepository;
+import com.example.zyno.repository.ProductRepository;
+
+/**
+ * Turns a user's cart into an order. Stock is reserved with conditional updates inside the
+ * same transaction that writes the order, so either everything commits or nothing does.
+ */
+@Service
+public class CheckoutService {
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private InventoryReservationService inventoryReservationService;
+    @Autowired
+    private SalesRollupService salesRollupService;
+    @Autowired
+    private CoPurchaseService coPurchaseService;
+    @Autowired
+    private ProductFacetService productFacetService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public CheckoutService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public Order checkout(String userId, String address) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> checkoutOnce(userId, address));
+            } catch (TransientDataAccessException | ObjectOptimisticLockingFailureException e) {
+                // deadlock or lock wait timeout between buyers of overlapping carts
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                backOff(attempt);
+            }
+        }
+    }
+
+    private Order checkoutOnce(String userId, String address) {
+        List<CartItem> lines = new ArrayList<>(cartItemRepository.findByUserUsername(userId));
+        if (lines.isEmpty()) {
+            throw new EmptyCartException(userId);
+        }
+        // A fixed lock order keeps two checkouts over the same products from deadlocking.
+        lines.sort(Comparator.comparing(line -> line.getProduct().getProductId()));
+        List<Product> products = new ArrayList<>();
+        Map<String, Integer> stockTaken = new HashMap<>();
+        int quantity = 0;
+        double totalAmount = 0;
+        for (CartItem line : lines) {
+            Product product = line.getProduct();
+            if (inventoryReservationService.isHot(product.getProductId())) {
+                inventoryReservationService.reserveAndConfirm(product.getProductId(), line.getQuantity());
+            } else if (productRepository.reserveStock(product.getProductId(), line.getQuantity()) == 0) {
+                throw new InsufficientStockException(product.getProductId());
+            }
+            products.add(product);
+            stockTaken.merge(product.getProductId(), line.getQuantity(), Integer::sum);
+            quantity += line.getQuantity();
+            totalAmount += product.getPrice() * line.getQuantity();
+        }
+        Order order = new Order();
+        order.setUserId(userId);
+        order.setUser(lines.get(0).getUser());
+        order.setAddress(address);
+        order.setProducts(products);
+        order.setQuantity(quantity);
+        order.setTotalAmount(totalAmount);
+        order.setOrderDate(LocalDateTime.now());
+        order.setExpectedDelivery(LocalDate.now().plusDays(5));
+        Order saved = orderRepository.save(order);
+        salesRollupService.orderPlaced(saved);
+        coPurchaseService.orderPlaced(saved);
+        productFacetService.stockTaken(stockTaken);
+        cartItemRepository.deleteAllInBatch(lines);
+        evictAfterCommit(products);
+        return saved;
+    }
+
+    // Both caches carry stockQuantity: the product itself and every category list it appears in.
+    private void evictAfterCommit(List<Product> products) {
+        Cache productCache = cacheManager.getCache("products");
+        Cache categoryCache = cacheManager.getCache("productsByCategory");
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                for (Product product : products) {
+                    if (productCache != null) {
+                        productCache.evict(product.getProductId());
+                    }
+                    if (categoryCache != null && product.getCategory() != null) {
+                        categoryCache.evict(product.getCategory());
+                    }
+                }
+            }
+        });
+    }
+
+    private static void backOff(int attempt) {
+        try {
+            Thread.sleep(10L * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
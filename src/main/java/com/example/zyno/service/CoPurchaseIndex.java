@@ -0,0 +1,180 @@
+package com.example.zyno.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+import com.example.zyno.dto.CoPurchaseDTO;
+
+/**
+ * "Frequently bought together" index. Product ids are interned to dense int indices; each product
+ * keeps an {@link IntIntCounter} of co-purchased product index to number of shared orders, plus a
+ * precomputed top-k list that is refreshed whenever one of its counts changes. Reads only copy
+ * the top-k list, so they cost O(k) regardless of order history.
+ */
+public class CoPurchaseIndex {
+    private final int topK;
+    private final Map<String, Integer> indexOf = new HashMap<>();
+    private final List<String> productIds = new ArrayList<>();
+    private IntIntCounter[] counters = new IntIntCounter[16];
+    private int[][] topProducts = new int[16][];
+    private int[][] topCounts = new int[16][];
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public CoPurchaseIndex(int topK) {
+        this.topK = topK;
+    }
+
+    // Adds (delta 1) or retracts (delta -1) one order's products.
+    public void record(Collection<String> orderProductIds, int delta) {
+        lock.writeLock().lock();
+        try {
+            int[] order = internUnlocked(orderProductIds);
+            for (int a : order) {
+                for (int b : order) {
+                    if (a != b) {
+                        counter(a).add(b, delta);
+                    }
+                }
+            }
+            for (int a : order) {
+                refreshTop(a);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Bulk load for a fresh index, one int[] of product indices per order (see {@link #intern}).
+     * Each worker owns the products whose index falls in its residue class, so workers update
+     * disjoint counters without locking and nothing has to be merged afterwards.
+     */
+    public void addAll(List<int[]> orders, int parallelism) {
+        lock.writeLock().lock();
+        try {
+            int products = productIds.size();
+            ensureCapacity(products);
+            for (int a = 0; a < products; a++) {
+                counter(a);
+            }
+            IntStream.range(0, parallelism).parallel().forEach(worker -> {
+                for (int[] order : orders) {
+                    for (int a : order) {
+                        if (a % parallelism != worker) {
+                            continue;
+                        }
+                        IntIntCounter counter = counters[a];
+                        for (int b : order) {
+                            if (a != b) {
+                                counter.add(b, 1);
+                            }
+                        }
+                    }
+                }
+            });
+            IntStream.range(0, products).parallel().forEach(this::refreshTop);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Distinct product indices of one order, assigning new indices to unseen products.
+    public int[] intern(Collection<String> orderProductIds) {
+        lock.writeLock().lock();
+        try {
+            return internUnlocked(orderProductIds);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<CoPurchaseDTO> top(String productId, int limit) {
+        lock.readLock().lock();
+        try {
+            Integer a = indexOf.get(productId);
+            if (a == null || topProducts[a] == null) {
+                return List.of();
+            }
+            int n = Math.min(limit, topProducts[a].length);
+            List<CoPurchaseDTO> result = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                result.add(new CoPurchaseDTO(productIds.get(topProducts[a][i]), topCounts[a][i]));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return productIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int[] internUnlocked(Collection<String> orderProductIds) {
+        return orderProductIds.stream()
+            .mapToInt(id -> indexOf.computeIfAbsent(id, key -> {
+                productIds.add(key);
+                ensureCapacity(productIds.size());
+                return productIds.size() - 1;
+            }))
+            .distinct()
+            .toArray();
+    }
+
+    private IntIntCounter counter(int a) {
+        if (counters[a] == null) {
+            counters[a] = new IntIntCounter();
+        }
+        return counters[a];
+    }
+
+    private void ensureCapacity(int products) {
+        if (products > counters.length) {
+            int capacity = Math.max(products, counters.length * 2);
+            counters = Arrays.copyOf(counters, capacity);
+            topProducts = Arrays.copyOf(topProducts, capacity);
+            topCounts = Arrays.copyOf(topCounts, capacity);
+        }
+    }
+
+    // Keeps the k highest positive counts, highest first, by insertion into short sorted arrays.
+    private void refreshTop(int a) {
+        IntIntCounter counter = counters[a];
+        if (counter == null) {
+            return;
+        }
+        int[] products = new int[topK];
+        int[] counts = new int[topK];
+        int[] filled = {0};
+        counter.forEach((b, count) -> {
+            if (count <= 0 || (filled[0] == topK && count <= counts[topK - 1])) {
+                return;
+            }
+            int i = Math.min(filled[0], topK - 1);
+            while (i > 0 && counts[i - 1] < count) {
+                products[i] = products[i - 1];
+                counts[i] = counts[i - 1];
+                i--;
+            }
+            products[i] = b;
+            counts[i] = count;
+            if (filled[0] < topK) {
+                filled[0]++;
+            }
+        });
+        topProducts[a] = Arrays.copyOf(products, filled[0]);
+        topCounts[a] = Arrays.copyOf(counts, filled[0]);
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.zyno.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.zyno.dto.CoPurchaseDTO;
+import com.example.zyno.model.Order;
+import com.example.zyno.model.Product;
+import com.example.zyno.repository.OrderRepository;
+
+// Keeps the in-memory co-purchase index in step with Orders: rebuilt from order_products at startup
+// and nightly, then updated as orders commit. Orders committed while a rebuild runs are applied to the
+// live index and also buffered, then replayed onto the rebuilt index before it is swapped in.
+// Reads never touch the database.
+@Service
+public class CoPurchaseService {
+    private static final Logger log = LoggerFactory.getLogger(CoPurchaseService.class);
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private final int topK;
+    private volatile CoPurchaseIndex index;
+    // Non-null while a rebuild runs; guarded by this.
+    private List<PendingOrder> pending;
+
+    public CoPurchaseService(@Value("${zyno.recommendations.top-k:20}") int topK) {
+        this.topK = topK;
+        this.index = new CoPurchaseIndex(topK);
+    }
+
+    public List<CoPurchaseDTO> getBoughtTogether(String productId, int limit) {
+        return index.top(productId, Math.max(1, Math.min(limit, topK)));
+    }
+
+    public void orderPlaced(Order order) {
+        apply(order, 1);
+    }
+    public void orderRemoved(Order order) {
+        apply(order, -1);
+    }
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${zyno.recommendations.rebuild-cron:0 15 4 * * *}")
+    public void rebuild() {
+        long started = System.nanoTime();
+        synchronized (this) {
+            if (pending != null) {
+                log.info("Co-purchase index rebuild already running; skipping");
+                return;
+            }
+            pending = new ArrayList<>();
+        }
+        try {
+            CoPurchaseIndex fresh = load();
+            int replayed;
+            synchronized (this) {
+                pending.forEach(order -> fresh.record(order.productIds(), order.delta()));
+                replayed = pending.size();
+                index = fresh;
+            }
+            log.info("Co-purchase index rebuilt over {} products in {} ms, replayed {} orders committed meanwhile",
+                fresh.size(), (System.nanoTime() - started) / 1_000_000, replayed);
+        } finally {
+            synchronized (this) {
+                pending = null;
+            }
+        }
+    }
+
+    // An order committed just as the stream opens can be both read and replayed, counting it twice
+    // until the next rebuild; one committed during the rebuild can no longer be lost.
+    private CoPurchaseIndex load() {
+        CoPurchaseIndex fresh = new CoPurchaseIndex(topK);
+        List<int[]> orders = new ArrayList<>();
+        try (Stream<Object[]> lines = orderRepository.streamOrderLines()) {
+            String currentOrder = null;
+            List<String> products = new ArrayList<>();
+            for (Object[] line : (Iterable<Object[]>) lines::iterator) {
+                if (!line[0].equals(currentOrder)) {
+                    if (products.size() > 1) {
+                        orders.add(fresh.intern(products));
+                    }
+                    currentOrder = (String) line[0];
+                    products.clear();
+                }
+                products.add((String) line[1]);
+            }
+            if (products.size() > 1) {
+                orders.add(fresh.intern(products));
+            }
+        }
+        fresh.addAll(orders, Runtime.getRuntime().availableProcessors());
+        return fresh;
+    }
+
+    // Product ids are captured now, while the order's lines are still loaded, and applied once the
+    // order commits; a rolled-back order never reaches the index.
+    private void apply(Order order, int delta) {
+        if (order.getProducts() == null || order.getProducts().size() < 2) {
+            return;
+        }
+        List<String> productIds = order.getProducts().stream()
+            .filter(Objects::nonNull)
+            .map(Product::getProductId)
+            .filter(Objects::nonNull)
+            .toList();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(productIds, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(productIds, delta);
+            }
+        });
+    }
+
+    private synchronized void record(List<String> productIds, int delta) {
+        index.record(productIds, delta);
+        if (pending != null) {
+            pending.add(new PendingOrder(productIds, delta));
+        }
+    }
+
+    private record PendingOrder(List<String> productIds, int delta) {
+    }
+}
@@ -1,43 +1,206 @@
 package com.example.zyno.service;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.List;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
 
+import com.example.zyno.dto.ImageDTO;
 import com.example.zyno.model.Image;
 import com.example.zyno.model.Product;
 import com.example.zyno.model.Review;
 import com.example.zyno.model.User;
+import com.example.zyno.repository.ImageBlobRepository;
 import com.example.zyno.repository.ImageRepository;
+import com.example.zyno.storage.BlobStorage;
+import com.example.zyno.storage.ContentHash;
+import com.example.zyno.storage.StoredBlob;
 
 @Service
 public class ImageService {
+    private static final Logger log = LoggerFactory.getLogger(ImageService.class);
+
     @Autowired
     private ImageRepository imageRepository;
+    @Autowired
+    private ImageBlobRepository imageBlobRepository;
+    @Autowired
+    private BlobStorage blobStorage;
+    @Autowired
+    private ImageVariantService imageVariantService;
+
+    private final TransactionTemplate unlinkTransaction;
+
+    public ImageService(PlatformTransactionManager transactionManager) {
+        // runs from afterCommit, where the finished transaction is still bound to the thread
+        this.unlinkTransaction = new TransactionTemplate(transactionManager);
+        this.unlinkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Transactional
+    public Long saveImage(byte[] data, String fileName, String contentType, Product product) throws IOException {
+        Image saved = imageRepository.save(newImage(acquireBlob(data), fileName, contentType, product));
+        imageVariantService.generateVariants(saved.getContentHash(), saved.getContentType());
+        return saved.getId();
+    }
 
-    public Long saveImage(byte[] data, String fileName, String contentType, Product product) {
+    @Transactional
+    public Long saveImage(InputStream content, String fileName, String contentType, Product product) throws IOException {
+        Image saved = imageRepository.save(newImage(acquireBlob(content), fileName, contentType, product));
+        imageVariantService.generateVariants(saved.getContentHash(), saved.getContentType());
+        return saved.getId();
+    }
+
+    // Each file is streamed to storage on its own; the metadata rows go out as one JDBC batch.
+    @Transactional
+    public List<Long> saveImages(List<MultipartFile> files, Product product) throws IOException {
+        List<Image> images = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            try (InputStream content = file.getInputStream()) {
+                images.add(newImage(acquireBlob(content), file.getOriginalFilename(), file.getContentType(), product));
+            }
+        }
+        List<Image> saved = imageRepository.saveAll(images);
+        saved.forEach(image -> imageVariantService.generateVariants(image.getContentHash(), image.getContentType()));
+        return saved.stream().map(Image::getId).toList();
+    }
+
+    private Image newImage(StoredBlob blob, String fileName, String contentType, Product product) {
         Image image = new Image();
-        image.setData(data);
+        image.setContentHash(blob.key());
+        image.setSize(blob.size());
         image.setFileName(fileName);
         image.setContentType(contentType);
         image.setProduct(product); // can be null if not linked yet
-        Image saved = imageRepository.save(image);
-        return saved.getId();
+        return image;
     }
 
     public Image getImageById(Long id) {
         return imageRepository.findById(id).orElse(null);
     }
 
-    public void deleteImage(Long id) {
-        imageRepository.deleteById(id);
+    // Null while the variant is still being generated, or when the original is already smaller.
+    public Resource getImageVariant(Image image, int size) {
+        if (image == null || image.getContentHash() == null) {
+            return null;
+        }
+        return imageVariantService.findVariant(image.getContentHash(), size);
+    }
+
+    public Resource getImageContent(Image image) {
+        if (image == null || image.getContentHash() == null) {
+            return null;
+        }
+        Resource resource = blobStorage.load(image.getContentHash());
+        return resource.exists() ? resource : null;
+    }
+
+    @Transactional
+    public void deleteImage(Long id) throws IOException {
+        Image image = imageRepository.findById(id).orElseThrow();
+        imageRepository.delete(image);
+        releaseBlob(image.getContentHash());
+    }
+
+    @Transactional
+    public Image updateImageData(Long id, byte[] data) throws IOException {
+        Image image = imageRepository.findById(id).orElse(null);
+        if (image == null) {
+            return null;
+        }
+        String previousHash = image.getContentHash();
+        StoredBlob blob = acquireBlob(data);
+        image.setContentHash(blob.key());
+        image.setSize(blob.size());
+        Image saved = imageRepository.save(image);
+        releaseBlob(previousHash);
+        imageVariantService.generateVariants(saved.getContentHash(), saved.getContentType());
+        return saved;
+    }
+
+    // Identical uploads share one stored blob; only new content is written to storage. The row is
+    // acquired before the file is checked, so an unlink of the same hash in flight finishes first.
+    private StoredBlob acquireBlob(byte[] data) throws IOException {
+        String hash = ContentHash.sha256Hex(data);
+        imageBlobRepository.acquire(hash, data.length);
+        if (!blobStorage.exists(hash)) {
+            blobStorage.store(new ByteArrayInputStream(data));
+        }
+        return new StoredBlob(hash, data.length);
+    }
+
+    // A stream can only be hashed by storing it, so here the file comes first. If identical content
+    // was being unlinked at that moment the file is gone once the row is ours; the upload then fails
+    // (and rolls back) rather than commit a row without bytes.
+    private StoredBlob acquireBlob(InputStream content) throws IOException {
+        StoredBlob blob = blobStorage.store(content);
+        imageBlobRepository.acquire(blob.key(), blob.size());
+        if (!blobStorage.exists(blob.key())) {
+            throw new ConcurrencyFailureException("Blob " + blob.key() + " was removed while it was being stored; retry the upload");
+        }
+        return blob;
+    }
+
+    // The file outlives a rolled-back transaction: it is only unlinked after commit.
+    private void releaseBlob(String hash) {
+        if (hash == null) {
+            return;
+        }
+        imageBlobRepository.release(hash);
+        if (imageBlobRepository.deleteIfUnreferenced(hash) == 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            unlinkIfUnreferenced(hash);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                unlinkIfUnreferenced(hash);
+            }
+        });
+    }
+
+    // Another upload may have acquired the hash again since the row was deleted; only a hash that
+    // still has no row, checked under a row lock, loses its file. A failure just leaves an orphan file.
+    private void unlinkIfUnreferenced(String hash) {
+        try {
+            unlinkTransaction.executeWithoutResult(status -> {
+                if (imageBlobRepository.lockByHash(hash).isPresent()) {
+                    return;
+                }
+                try {
+                    blobStorage.delete(hash);
+                    imageVariantService.deleteVariants(hash);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Could not remove unreferenced blob {}", hash, e);
+        }
     }
 
     public Image updateImage(Image image, Long id) {
         return imageRepository.findById(id)
             .map(existingImage -> {
-                existingImage.setData(image.getData());
                 existingImage.setFileName(image.getFileName());
                 existingImage.setContentType(image.getContentType());
                 existingImage.setProduct(image.getProduct());
@@ -45,29 +208,23 @@ public class ImageService {
             })
             .orElse(null);
     }
-    public List<Image> getAllImages() {
-        return imageRepository.findAll();
+    public List<ImageDTO> getImageSummaries() {
+        return imageRepository.findAllSummaries();
     }
-
-    public List<Image> getImagesByProduct(Product product) {
-        return imageRepository.findAll().stream()
-            .filter(image -> image.getProduct() != null && image.getProduct().equals(product))
-            .toList();
+    public List<ImageDTO> getImageSummariesByProductId(String productId) {
+        return imageRepository.findSummariesByProductId(productId);
     }
-    public List<Image> getImagesByContentType(String contentType) {
-        return imageRepository.findAll().stream()
-            .filter(image -> contentType.equals(image.getContentType()))
-            .toList();
+    public List<ImageDTO> getImageSummariesByContentType(String contentType) {
+        return imageRepository.findSummariesByContentType(contentType);
     }
+
     public List<Image> getImagesByFileName(String fileName) {
         return imageRepository.findAll().stream()
             .filter(image -> fileName.equals(image.getFileName()))
             .toList();
     }
     public List<Image> getImagesByData(byte[] data) {
-        return imageRepository.findAll().stream()
-            .filter(image -> java.util.Arrays.equals(data, image.getData()))
-            .toList();
+        return imageRepository.findByContentHash(ContentHash.sha256Hex(data));
     }
     public List<Image> getImagesByProductId(String productId) {
         return imageRepository.findAll().stream()
@@ -0,0 +1,143 @@
+package com.example.zyno.service;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import com.example.zyno.storage.BlobStorage;
+
+/**
+ * Produces down-scaled copies of uploaded images on the bounded {@code imageVariantExecutor}.
+ * Variants are keyed by the original's content hash, so deduplicated uploads share them too.
+ */
+@Service
+public class ImageVariantService {
+    public static final List<Integer> SIZES = List.of(150, 400, 1200);
+
+    private static final Logger log = LoggerFactory.getLogger(ImageVariantService.class);
+
+    @Autowired
+    private BlobStorage blobStorage;
+
+    // Decoding allocates width * height pixels whatever the file size, so a tiny, highly compressed
+    // upload could otherwise claim gigabytes of heap.
+    @Value("${zyno.images.max-pixels:40000000}")
+    private long maxPixels;
+
+    @Async("imageVariantExecutor")
+    public void generateVariants(String contentHash, String contentType) {
+        try {
+            BufferedImage original;
+            try (InputStream in = blobStorage.load(contentHash).getInputStream()) {
+                original = decode(contentHash, in);
+            }
+            if (original == null) {
+                return; // not decodable or too large; downloads keep serving the original
+            }
+            String format = formatFor(contentType);
+            for (int size : SIZES) {
+                String key = variantKey(contentHash, size);
+                if (original.getWidth() <= size || blobStorage.exists(key)) {
+                    continue;
+                }
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                ImageIO.write(scaleToWidth(original, size, format), format, out);
+                blobStorage.put(key, new ByteArrayInputStream(out.toByteArray()));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not generate variants for {}", contentHash, e);
+        }
+    }
+
+    // Reads the dimensions from the header and only decodes when they are within maxPixels.
+    private BufferedImage decode(String contentHash, InputStream in) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    log.warn("Skipping variants for {}: {}x{} exceeds {} pixels",
+                        contentHash, reader.getWidth(0), reader.getHeight(0), maxPixels);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    public Resource findVariant(String contentHash, int size) {
+        String key = variantKey(contentHash, size);
+        return blobStorage.exists(key) ? blobStorage.load(key) : null;
+    }
+
+    public void deleteVariants(String contentHash) throws IOException {
+        for (int size : SIZES) {
+            blobStorage.delete(variantKey(contentHash, size));
+        }
+    }
+
+    // Picks the smallest variant that still covers the requested width.
+    public static int selectSize(int requested) {
+        for (int size : SIZES) {
+            if (size >= requested) {
+                return size;
+            }
+        }
+        return SIZES.get(SIZES.size() - 1);
+    }
+
+    public static String variantContentType(String contentType) {
+        return "png".equals(formatFor(contentType)) ? "image/png" : "image/jpeg";
+    }
+
+    private static String formatFor(String contentType) {
+        return contentType != null && contentType.equalsIgnoreCase("image/png") ? "png" : "jpg";
+    }
+
+    private static String variantKey(String contentHash, int size) {
+        return contentHash + "w" + size;
+    }
+
+    private static BufferedImage scaleToWidth(BufferedImage source, int width, String format) {
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+        int type = "png".equals(format) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage scaled = new BufferedImage(width, height, type);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+}
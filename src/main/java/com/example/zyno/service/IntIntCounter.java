@@ -0,0 +1,95 @@
+package com.example.zyno.service;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing int to int map for non-negative keys, used as a counter. Keys and counts live in
+ * two parallel int arrays with linear probing, so an entry costs 8 bytes and no boxing. Entries are
+ * never removed; a count that drops to zero simply stays in the table. Not thread-safe.
+ */
+public class IntIntCounter {
+    private static final int EMPTY = -1;
+
+    private int[] keys;
+    private int[] counts;
+    private int size;
+
+    public IntIntCounter() {
+        keys = new int[8];
+        counts = new int[8];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    public int add(int key, int delta) {
+        if ((size + 1) * 4 > keys.length * 3) {
+            resize(keys.length * 2);
+        }
+        int mask = keys.length - 1;
+        int i = mix(key) & mask;
+        while (keys[i] != EMPTY) {
+            if (keys[i] == key) {
+                counts[i] += delta;
+                return counts[i];
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        counts[i] = delta;
+        size++;
+        return delta;
+    }
+
+    public int get(int key) {
+        int mask = keys.length - 1;
+        int i = mix(key) & mask;
+        while (keys[i] != EMPTY) {
+            if (keys[i] == key) {
+                return counts[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void forEach(EntryConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                consumer.accept(keys[i], counts[i]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(int key, int count);
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldCounts = counts;
+        keys = new int[capacity];
+        counts = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        int mask = capacity - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] != EMPTY) {
+                int i = mix(oldKeys[j]) & mask;
+                while (keys[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                counts[i] = oldCounts[j];
+            }
+        }
+    }
+
+    // Sequential product indices would otherwise cluster in neighbouring slots.
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,334 @@
+package com.example.zyno.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.zyno.exception.InsufficientStockException;
+import com.example.zyno.exception.ReservationExpiredException;
+import com.example.zyno.model.InventoryLedgerEntry;
+import com.example.zyno.repository.InventoryLedgerRepository;
+import com.example.zyno.repository.ProductRepository;
+
+/**
+ * Serves stock for hot products from striped in-memory counters instead of the Product row.
+ * Reservations are held in memory with a TTL; confirming one appends a row to the inventory
+ * ledger in the caller's transaction, and a background flush applies the ledger to Product in
+ * batches. On startup the ledger is flushed before counters are loaded, so confirmed decrements
+ * survive a crash while unconfirmed holds simply lapse.
+ */
+@Service
+public class InventoryReservationService {
+    private static final Logger log = LoggerFactory.getLogger(InventoryReservationService.class);
+
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private InventoryLedgerRepository inventoryLedgerRepository;
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Value("${zyno.inventory.hot-products:}")
+    private List<String> configuredHotProducts;
+    @Value("${zyno.inventory.reservation-ttl:PT10M}")
+    private Duration reservationTtl;
+
+    private final Map<String, StripedStock> hotStock = new ConcurrentHashMap<>();
+    private final Map<String, Reservation> reservations = new ConcurrentHashMap<>();
+    private final int stripes = Runtime.getRuntime().availableProcessors();
+    // Serializes ledger flushes with each other and with counter seeding, so a ledger row is applied
+    // to Product exactly once and never counted both in Product and in the pending ledger.
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // Set when this instance commits a ledger row, so the scheduled flush does not poll an empty
+    // ledger. Starts set so rows left over from before a restart are picked up.
+    private final AtomicBoolean ledgerPending = new AtomicBoolean(true);
+    private final TransactionTemplate transactionTemplate;
+
+    public InventoryReservationService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        flush();
+        configuredHotProducts.stream().filter(id -> !id.isBlank()).forEach(this::promote);
+    }
+
+    public boolean isHot(String productId) {
+        return hotStock.containsKey(productId);
+    }
+
+    // Seeds the counter from Product stock less the pending ledger, less reservations still held in
+    // memory. Reservations that are mid-confirm count as held: their ledger row may not be committed
+    // yet, and leaving them out of both numbers would seed the counter too high.
+    public void promote(String productId) {
+        flushLock.lock();
+        try {
+            Long stock = transactionTemplate.execute(status -> productRepository.findStockNetOfLedger(productId));
+            if (stock == null) {
+                throw new IllegalArgumentException("Unknown product " + productId);
+            }
+            hotStock.put(productId, new StripedStock(stripes, stock - heldQuantity(productId)));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public void demote(String productId) {
+        hotStock.remove(productId);
+        flush();
+    }
+
+    // Re-reads the stock of a hot product after an administrative change to Product.stockQuantity.
+    public void refresh(String productId) {
+        if (isHot(productId)) {
+            promote(productId);
+        }
+    }
+
+    public String reserve(String productId, int quantity) {
+        StripedStock stock = hotStock.get(productId);
+        if (stock == null) {
+            throw new IllegalArgumentException("Product " + productId + " is not managed as a hot product");
+        }
+        if (quantity <= 0 || !stock.tryTake(quantity)) {
+            throw new InsufficientStockException(productId);
+        }
+        String reservationId = UUID.randomUUID().toString();
+        reservations.put(reservationId, new Reservation(productId, quantity, System.currentTimeMillis() + reservationTtl.toMillis()));
+        return reservationId;
+    }
+
+    public void release(String reservationId) {
+        Reservation reservation = reservations.get(reservationId);
+        if (reservation != null && !reservation.confirming.get() && reservations.remove(reservationId, reservation)) {
+            giveBack(reservation);
+        }
+    }
+
+    // Joins the caller's transaction; a rollback hands the quantity back to the counters.
+    public void confirm(String reservationId) {
+        Reservation reservation = reservations.get(reservationId);
+        if (reservation == null || !reservation.confirming.compareAndSet(false, true)) {
+            throw new ReservationExpiredException(reservationId);
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                inventoryLedgerRepository.save(new InventoryLedgerEntry(reservation.productId, reservation.quantity));
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int completionStatus) {
+                        if (completionStatus == STATUS_COMMITTED) {
+                            ledgerPending.set(true);
+                        }
+                        if (reservations.remove(reservationId, reservation) && completionStatus != STATUS_COMMITTED) {
+                            giveBack(reservation);
+                        }
+                    }
+                });
+            });
+        } catch (RuntimeException e) {
+            if (reservations.remove(reservationId, reservation)) {
+                giveBack(reservation);
+            }
+            throw e;
+        }
+    }
+
+    public void reserveAndConfirm(String productId, int quantity) {
+        confirm(reserve(productId, quantity));
+    }
+
+    @Scheduled(fixedDelayString = "${zyno.inventory.expiry-sweep-ms:1000}")
+    public void expireReservations() {
+        long now = System.currentTimeMillis();
+        reservations.forEach((id, reservation) -> {
+            if (reservation.expiresAt < now && !reservation.confirming.get() && reservations.remove(id, reservation)) {
+                giveBack(reservation);
+            }
+        });
+    }
+
+    // Rows this flush cannot apply (see applyLedger) are retried once another confirmation commits.
+    @Scheduled(fixedDelayString = "${zyno.inventory.flush-interval-ms:200}")
+    public void flushPending() {
+        if (!ledgerPending.getAndSet(false)) {
+            return;
+        }
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            ledgerPending.set(true);
+            throw e;
+        }
+    }
+
+    public void flush() {
+        flushLock.lock();
+        try {
+            transactionTemplate.executeWithoutResult(status -> applyLedger());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // A product whose row can no longer absorb its decrement (stock lowered by hand in the meantime)
+    // keeps its ledger rows, so the shortfall stays visible instead of driving stock negative.
+    private void applyLedger() {
+        List<InventoryLedgerEntry> entries = inventoryLedgerRepository.findTop5000ByOrderByIdAsc();
+        if (entries.isEmpty()) {
+            return;
+        }
+        if (entries.size() == 5000) {
+            ledgerPending.set(true); // more rows than one batch
+        }
+        Map<String, Integer> decrements = new HashMap<>();
+        for (InventoryLedgerEntry entry : entries) {
+            decrements.merge(entry.getProductId(), entry.getQuantity(), Integer::sum);
+        }
+        Set<String> rejected = new HashSet<>();
+        decrements.forEach((productId, quantity) -> {
+            if (productRepository.decrementStock(productId, quantity) == 0) {
+                log.warn("Ledger decrement of {} for product {} exceeds its stock; leaving it in the ledger", quantity, productId);
+                rejected.add(productId);
+            }
+        });
+        List<Long> ids = entries.stream()
+            .filter(entry -> !rejected.contains(entry.getProductId()))
+            .map(InventoryLedgerEntry::getId)
+            .toList();
+        inventoryLedgerRepository.deleteAllByIdInBatch(ids);
+        evictAfterCommit(decrements.keySet(), productRepository.findCategories(decrements.keySet()));
+    }
+
+    // Cached products and category lists still show the stock from before the flush.
+    private void evictAfterCommit(Set<String> productIds, List<String> categories) {
+        Cache productCache = cacheManager.getCache("products");
+        Cache categoryCache = cacheManager.getCache("productsByCategory");
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (productCache != null) {
+                    productIds.forEach(productCache::evict);
+                }
+                if (categoryCache != null) {
+                    categories.forEach(categoryCache::evict);
+                }
+            }
+        });
+    }
+
+    public Map<String, Long> getAvailableStock() {
+        Map<String, Long> available = new LinkedHashMap<>();
+        hotStock.forEach((productId, stock) -> available.put(productId, stock.total()));
+        return available;
+    }
+
+    private long heldQuantity(String productId) {
+        return reservations.values().stream()
+            .filter(reservation -> reservation.productId.equals(productId))
+            .mapToLong(reservation -> reservation.quantity)
+            .sum();
+    }
+
+    private void giveBack(Reservation reservation) {
+        StripedStock stock = hotStock.get(reservation.productId);
+        if (stock != null) {
+            stock.give(reservation.quantity);
+        }
+    }
+
+    private static final class Reservation {
+        private final String productId;
+        private final int quantity;
+        private final long expiresAt;
+        private final AtomicBoolean confirming = new AtomicBoolean();
+
+        private Reservation(String productId, int quantity, long expiresAt) {
+            this.productId = productId;
+            this.quantity = quantity;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Stock split across independent CAS slots so buyers on different cores rarely touch the
+     * same cache line. A request no single slot can satisfy falls back to draining all slots.
+     */
+    static final class StripedStock {
+        private final AtomicLongArray slots;
+
+        StripedStock(int stripes, long initial) {
+            slots = new AtomicLongArray(stripes);
+            long share = Math.max(0, initial) / stripes;
+            for (int i = 0; i < stripes; i++) {
+                slots.set(i, share);
+            }
+            slots.addAndGet(0, Math.max(0, initial) - share * stripes);
+        }
+
+        boolean tryTake(int quantity) {
+            int length = slots.length();
+            int start = ThreadLocalRandom.current().nextInt(length);
+            for (int i = 0; i < length; i++) {
+                int slot = (start + i) % length;
+                long current = slots.get(slot);
+                while (current >= quantity) {
+                    if (slots.compareAndSet(slot, current, current - quantity)) {
+                        return true;
+                    }
+                    current = slots.get(slot);
+                }
+            }
+            return tryTakeAcrossSlots(quantity);
+        }
+
+        private synchronized boolean tryTakeAcrossSlots(int quantity) {
+            long drained = 0;
+            for (int i = 0; i < slots.length(); i++) {
+                drained += slots.getAndSet(i, 0);
+            }
+            boolean granted = drained >= quantity;
+            slots.addAndGet(0, granted ? drained - quantity : drained);
+            return granted;
+        }
+
+        void give(int quantity) {
+            slots.addAndGet(ThreadLocalRandom.current().nextInt(slots.length()), quantity);
+        }
+
+        long total() {
+            long total = 0;
+            for (int i = 0; i < slots.length(); i++) {
+                total += slots.get(i);
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.zyno.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Token-based inverted index mapping lower-cased words to the documents that contain them.
+ * Every query word must match a document; the last one is treated as a prefix so the index
+ * can answer search-as-you-type queries. Results are ranked by summed term frequency.
+ */
+public class InvertedIndex<K> {
+    private final NavigableMap<String, Map<K, Integer>> postings = new TreeMap<>();
+    private final Map<K, Map<String, Integer>> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(K key, String text) {
+        Map<String, Integer> terms = termFrequencies(text);
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(key);
+            if (terms.isEmpty()) {
+                return;
+            }
+            documents.put(key, terms);
+            terms.forEach((term, count) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(key, count));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(K key) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<K> search(String query) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        Map<K, Integer> scores = null;
+        lock.readLock().lock();
+        try {
+            for (int i = 0; i < terms.size(); i++) {
+                Map<K, Integer> matches = i == terms.size() - 1
+                    ? prefixMatches(terms.get(i))
+                    : postings.getOrDefault(terms.get(i), Map.of());
+                if (scores == null) {
+                    scores = new HashMap<>(matches);
+                } else {
+                    Map<K, Integer> previous = scores;
+                    scores = new HashMap<>();
+                    for (Map.Entry<K, Integer> entry : matches.entrySet()) {
+                        Integer score = previous.get(entry.getKey());
+                        if (score != null) {
+                            scores.put(entry.getKey(), score + entry.getValue());
+                        }
+                    }
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<Map.Entry<K, Integer>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Map.Entry.<K, Integer>comparingByValue().reversed());
+        return ranked.stream().map(Map.Entry::getKey).toList();
+    }
+
+    private Map<K, Integer> prefixMatches(String prefix) {
+        Map<K, Integer> matches = new HashMap<>();
+        for (Map<K, Integer> posting : postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            posting.forEach((key, count) -> matches.merge(key, count, Integer::sum));
+        }
+        return matches;
+    }
+
+    private void removeUnlocked(K key) {
+        Map<String, Integer> terms = documents.remove(key);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms.keySet()) {
+            Map<K, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(key);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> terms = new HashMap<>();
+        for (String term : tokenize(text)) {
+            terms.merge(term, 1, Integer::sum);
+        }
+        return terms;
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase().split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.zyno.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.zyno.dto.OrderExportDTO;
+import com.example.zyno.repository.OrderRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Writes orders to an output stream as they come off a database cursor, so memory use does not
+ * grow with the number of rows exported.
+ */
+@Service
+public class OrderExportService {
+    private static final int FLUSH_EVERY = 1000;
+
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    public OrderExportService(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public void exportNdjson(LocalDate from, LocalDate to, OutputStream out) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            ObjectWriter writer = objectMapper.writerFor(OrderExportDTO.class);
+            try (Stream<OrderExportDTO> rows = stream(from, to)) {
+                Iterator<OrderExportDTO> iterator = rows.iterator();
+                for (int count = 1; iterator.hasNext(); count++) {
+                    out.write(writer.writeValueAsBytes(iterator.next()));
+                    out.write('\n');
+                    if (count % FLUSH_EVERY == 0) {
+                        out.flush();
+                    }
+                }
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    public void exportCsv(LocalDate from, LocalDate to, OutputStream out) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            try (Stream<OrderExportDTO> rows = stream(from, to)) {
+                writer.write("orderId,username,address,quantity,totalAmount,orderDate,expectedDelivery\n");
+                Iterator<OrderExportDTO> iterator = rows.iterator();
+                for (int count = 1; iterator.hasNext(); count++) {
+                    OrderExportDTO row = iterator.next();
+                    writer.write(csv(row.getOrderId()));
+                    writer.write(',');
+                    writer.write(csv(row.getUsername()));
+                    writer.write(',');
+                    writer.write(csv(row.getAddress()));
+                    writer.write(',');
+                    writer.write(Integer.toString(row.getQuantity()));
+                    writer.write(',');
+                    writer.write(Double.toString(row.getTotalAmount()));
+                    writer.write(',');
+                    writer.write(row.getOrderDate() != null ? row.getOrderDate().toString() : "");
+                    writer.write(',');
+                    writer.write(row.getExpectedDelivery() != null ? row.getExpectedDelivery().toString() : "");
+                    writer.write('\n');
+                    if (count % FLUSH_EVERY == 0) {
+                        writer.flush();
+                    }
+                }
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private Stream<OrderExportDTO> stream(LocalDate from, LocalDate to) {
+        LocalDateTime start = from != null ? from.atStartOfDay() : null;
+        LocalDateTime end = to != null ? to.plusDays(1).atStartOfDay() : null;
+        return orderRepository.streamForExport(start, end);
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
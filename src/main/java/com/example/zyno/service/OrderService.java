@@ -1,49 +1,113 @@
 package com.example.zyno.service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import com.example.zyno.dto.OrderSummaryDTO;
+import com.example.zyno.dto.ProductSummaryDTO;
 import com.example.zyno.model.Order;
 import com.example.zyno.repository.OrderRepository;
 
 @Service
 public class OrderService {
+    private static final int LINE_QUERY_CHUNK = 1000;
+
     @Autowired
     private OrderRepository orderRepository;
+    @Autowired
+    private SalesRollupService salesRollupService;
+    @Autowired
+    private CoPurchaseService coPurchaseService;
 
+    @Transactional
     public Order saveOrder(Order order) {
-        return orderRepository.save(order);
+        retractExisting(List.of(order));
+        Order saved = orderRepository.save(order);
+        salesRollupService.orderPlaced(saved);
+        coPurchaseService.orderPlaced(saved);
+        return saved;
     }
-    public List<Order> getAllOrders() {
-        return orderRepository.findAll();
+    // Orders and their order_products rows are flushed as JDBC batches (hibernate.jdbc.batch_size).
+    @Transactional
+    public List<Order> saveOrders(List<Order> orders) {
+        retractExisting(orders);
+        List<Order> saved = orderRepository.saveAll(orders);
+        saved.forEach(salesRollupService::orderPlaced);
+        saved.forEach(coPurchaseService::orderPlaced);
+        return saved;
+    }
+    public List<OrderSummaryDTO> getAllOrders() {
+        return withProducts(orderRepository.findAllSummaries());
     }
     public Order getOrderById(String id) {
-        return orderRepository.findById(id).orElse(null);
+        return orderRepository.findWithDetailsByOrderId(id).orElse(null);
     }
+    @Transactional
     public void deleteOrder(String id) {
-        orderRepository.deleteById(id);
+        orderRepository.findById(id).ifPresent(existingOrder -> {
+            salesRollupService.orderRemoved(existingOrder);
+            coPurchaseService.orderRemoved(existingOrder);
+            orderRepository.delete(existingOrder);
+        });
     }
+    @Transactional
     public Order updateOrder(Order order, String id) {
         return orderRepository.findById(id)
             .map(existingOrder -> {
+                salesRollupService.orderRemoved(existingOrder);
+                coPurchaseService.orderRemoved(existingOrder);
                 existingOrder.setOrderDate(order.getOrderDate());
                 existingOrder.setTotalAmount(order.getTotalAmount());
                 existingOrder.setUser(order.getUser());
                 existingOrder.setProducts(order.getProducts());
-                return orderRepository.save(existingOrder);
+                Order saved = orderRepository.save(existingOrder);
+                salesRollupService.orderPlaced(saved);
+                coPurchaseService.orderPlaced(saved);
+                return saved;
             })
             .orElse(null);
     }
-    public List<Order> getOrdersByUserId(String userId) {
-        return orderRepository.findAll().stream()
-            .filter(order -> order.getUser() != null && order.getUser().getUsername().equals(userId))
-            .toList();
+    public List<OrderSummaryDTO> getOrdersByUserId(String userId) {
+        return withProducts(orderRepository.findSummariesByUsername(userId));
     }
-    public List<Order> getOrdersByProductId(String productId) {
-        return orderRepository.findAll().stream()
-            .filter(order -> order.getProducts() != null && order.getProducts().stream()
-                .anyMatch(product -> product.getProductId().equals(productId)))
+    public List<OrderSummaryDTO> getOrdersByProductId(String productId) {
+        return withProducts(orderRepository.findSummariesByProductId(productId));
+    }
+
+    // Saving under an id that already exists merges over that order, so its stored version is taken
+    // out of the rollups and the co-purchase index first instead of being counted twice.
+    private void retractExisting(List<Order> orders) {
+        List<String> ids = orders.stream()
+            .map(Order::getOrderId)
+            .filter(Objects::nonNull)
             .toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+        for (Order existing : orderRepository.findAllById(ids)) {
+            salesRollupService.orderRemoved(existing);
+            coPurchaseService.orderRemoved(existing);
+        }
+    }
+
+    // Attaches order lines with one query per chunk of orders instead of one per order.
+    private List<OrderSummaryDTO> withProducts(List<OrderSummaryDTO> orders) {
+        Map<String, OrderSummaryDTO> byId = new LinkedHashMap<>();
+        orders.forEach(order -> byId.put(order.getOrderId(), order));
+        List<String> ids = new ArrayList<>(byId.keySet());
+        for (int from = 0; from < ids.size(); from += LINE_QUERY_CHUNK) {
+            List<String> chunk = ids.subList(from, Math.min(from + LINE_QUERY_CHUNK, ids.size()));
+            for (Object[] line : orderRepository.findProductLines(chunk)) {
+                byId.get((String) line[0]).getProducts()
+                    .add(new ProductSummaryDTO((String) line[1], (String) line[2], (Double) line[3]));
+            }
+        }
+        return orders;
     }
 }
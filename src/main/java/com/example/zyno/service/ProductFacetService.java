@@ -0,0 +1,125 @@
+package com.example.zyno.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.zyno.dto.FacetResultDTO;
+import com.example.zyno.dto.ProductListDTO;
+import com.example.zyno.model.Product;
+import com.example.zyno.repository.ProductRepository;
+
+// Serves faceted browsing from a columnar ProductSnapshot: loaded at startup, kept current by product
+// writes and checkouts once they commit, and reloaded nightly to drop tombstones and pick up stock
+// changed elsewhere (ledger flushes for hot products). Changes committed while a reload runs are also
+// buffered and replayed onto the new snapshot before it is swapped in. Catalogs past the threshold
+// are scanned on all cores.
+@Service
+public class ProductFacetService {
+    private static final Logger log = LoggerFactory.getLogger(ProductFacetService.class);
+    private static final double DEFAULT_BUCKET_WIDTH = 50;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private final int parallelThreshold;
+    private final int parallelism = Runtime.getRuntime().availableProcessors();
+    private volatile ProductSnapshot snapshot = new ProductSnapshot();
+    // Non-null while a rebuild runs; guarded by this.
+    private List<Consumer<ProductSnapshot>> pending;
+
+    public ProductFacetService(@Value("${zyno.facets.parallel-threshold:50000}") int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    public FacetResultDTO getFacets(String category, Double minPrice, Double maxPrice, boolean inStock,
+                                    String cursor, int size, double bucketWidth) {
+        double width = bucketWidth > 0 ? bucketWidth : DEFAULT_BUCKET_WIDTH;
+        ProductSnapshot current = snapshot;
+        int workers = current.size() >= parallelThreshold ? parallelism : 1;
+        return current.facets(category, minPrice, maxPrice, inStock, cursor, size, width, workers);
+    }
+
+    public void productSaved(Product product) {
+        if (product != null) {
+            ProductListDTO row = ProductListDTO.from(product);
+            afterCommit(current -> current.upsert(row));
+        }
+    }
+    public void productRemoved(String productId) {
+        afterCommit(current -> current.remove(productId));
+    }
+
+    // Stock reserved by a checkout.
+    public void stockTaken(Map<String, Integer> quantities) {
+        afterCommit(current -> quantities.forEach((productId, quantity) -> current.adjustStock(productId, -quantity)));
+    }
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${zyno.facets.rebuild-cron:0 30 4 * * *}")
+    public void rebuild() {
+        long started = System.nanoTime();
+        synchronized (this) {
+            if (pending != null) {
+                log.info("Product facet snapshot rebuild already running; skipping");
+                return;
+            }
+            pending = new ArrayList<>();
+        }
+        try {
+            ProductSnapshot fresh = new ProductSnapshot();
+            try (Stream<ProductListDTO> products = productRepository.streamFacetColumns()) {
+                products.forEach(fresh::upsert);
+            }
+            int replayed;
+            synchronized (this) {
+                pending.forEach(change -> change.accept(fresh));
+                replayed = pending.size();
+                snapshot = fresh;
+            }
+            log.info("Product facet snapshot rebuilt with {} products in {} ms, replayed {} changes committed meanwhile",
+                fresh.size(), (System.nanoTime() - started) / 1_000_000, replayed);
+        } finally {
+            synchronized (this) {
+                pending = null;
+            }
+        }
+    }
+
+    // Upserts and removals replay idempotently; a stock change committed just as the stream opens
+    // can be applied twice, which the next rebuild corrects.
+    private void afterCommit(Consumer<ProductSnapshot> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+        });
+    }
+
+    private synchronized void apply(Consumer<ProductSnapshot> change) {
+        change.accept(snapshot);
+        if (pending != null) {
+            pending.add(change);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.zyno.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.zyno.model.Product;
+import com.example.zyno.model.ProductRating;
+import com.example.zyno.model.Review;
+import com.example.zyno.repository.ProductRatingRepository;
+
+@Service
+public class ProductRatingService {
+    @Autowired
+    private ProductRatingRepository productRatingRepository;
+
+    public void reviewAdded(Review review) {
+        apply(review, 1);
+    }
+    public void reviewRemoved(Review review) {
+        apply(review, -1);
+    }
+    public void ratingChanged(Review review, int previousRating) {
+        if (previousRating == review.getRating()) {
+            return;
+        }
+        Review previous = new Review();
+        previous.setProduct(review.getProduct());
+        previous.setRating(previousRating);
+        apply(previous, -1);
+        apply(review, 1);
+    }
+
+    public ProductRating getRating(String productId) {
+        return productRatingRepository.findById(productId).orElse(null);
+    }
+    public List<Product> getProductsWithReviewAtLeast(double rating) {
+        return productRatingRepository.findProductsWithReviewAtLeast(rating);
+    }
+    public List<Product> getTopRatedInCategory(String category, int limit) {
+        return productRatingRepository.findTopRatedInCategory(category, PageRequest.of(0, limit));
+    }
+
+    @Transactional
+    @Scheduled(cron = "${zyno.ratings.rebuild-cron:0 30 3 * * *}")
+    public int rebuild() {
+        productRatingRepository.deleteAllRatings();
+        return productRatingRepository.insertFromReviews();
+    }
+
+    private void apply(Review review, int sign) {
+        if (review.getProduct() == null || review.getProduct().getProductId() == null) {
+            return;
+        }
+        int rating = review.getRating();
+        productRatingRepository.applyDelta(review.getProduct().getProductId(), sign, (long) sign * rating,
+            rating == 1 ? sign : 0, rating == 2 ? sign : 0, rating == 3 ? sign : 0,
+            rating == 4 ? sign : 0, rating == 5 ? sign : 0);
+    }
+}
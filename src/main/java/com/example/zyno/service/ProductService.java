@@ -1,30 +1,82 @@
 package com.example.zyno.service;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import com.example.zyno.dto.CoPurchaseDTO;
+import com.example.zyno.dto.CursorPageDTO;
+import com.example.zyno.dto.FacetResultDTO;
 import com.example.zyno.model.Product;
+import com.example.zyno.model.ProductRating;
 import com.example.zyno.repository.ProductRepository;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 
 @Service
 public class ProductService {
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private ProductRepository productRepository;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private SearchIndexService searchIndexService;
+    @Autowired
+    private ProductRatingService productRatingService;
+    @Autowired
+    private InventoryReservationService inventoryReservationService;
+    @Autowired
+    private CoPurchaseService coPurchaseService;
+    @Autowired
+    private ProductFacetService productFacetService;
 
+    @Caching(
+        put = @CachePut(value = "products", key = "#result.productId"),
+        evict = @CacheEvict(value = "productsByCategory", allEntries = true)
+    )
     public Product saveProduct(Product product) {
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        searchIndexService.indexProduct(saved);
+        productFacetService.productSaved(saved);
+        inventoryReservationService.refresh(saved.getProductId());
+        return saved;
     }
     public List<Product> getAllProducts() {
         return productRepository.findAll();
     }
+    // sync runs the load inside Caffeine's per-key compute, so the evict in deleteProduct waits for a
+    // read that started before the delete committed and then drops what it loaded.
+    @Cacheable(value = "products", sync = true)
     public Product getProductById(String id) {
         return productRepository.findById(id).orElse(null);
     }
+    @Caching(evict = {
+        @CacheEvict(value = "products", key = "#id"),
+        @CacheEvict(value = "productsByCategory", allEntries = true)
+    })
     public void deleteProduct(String id) {
         productRepository.deleteById(id);
+        searchIndexService.removeProduct(id);
+        productFacetService.productRemoved(id);
     }
+    @Caching(
+        put = @CachePut(value = "products", key = "#id", unless = "#result == null"),
+        evict = @CacheEvict(value = "productsByCategory", allEntries = true)
+    )
     public Product updateProduct(Product product, String id) {
         return productRepository.findById(id)
             .map(existingProduct -> {
@@ -32,41 +84,58 @@ public class ProductService {
                 existingProduct.setProductDescription(product.getProductDescription());
                 existingProduct.setPrice(product.getPrice());
                 existingProduct.setCategory(product.getCategory());
-                return productRepository.save(existingProduct);
+                Product saved = productRepository.save(existingProduct);
+                searchIndexService.indexProduct(saved);
+                productFacetService.productSaved(saved);
+                return saved;
             })
             .orElse(null);
     }
+    @Cacheable("productsByCategory")
     public List<Product> getProductsByCategory(String category) {
-        return productRepository.findAll().stream()
-            .filter(product -> category.equals(product.getCategory()))
-            .toList();
+        return productRepository.findByCategory(category);
     }
     public List<Product> getProductsByPriceRange(double minPrice, double maxPrice) {
-        return productRepository.findAll().stream()
-            .filter(product -> product.getPrice() >= minPrice && product.getPrice() <= maxPrice)
-            .toList();
+        return productRepository.findByPriceBetween(minPrice, maxPrice);
     }
     public List<Product> getProductsByName(String name) {
-        return productRepository.findAll().stream()
-            .filter(product -> product.getProductName().toLowerCase().contains(name.toLowerCase()))
-            .toList();
+        return findAllInOrder(searchIndexService.searchProductNames(name));
     }
     public List<Product> getProductsByDescription(String description) {
-        return productRepository.findAll().stream()
-            .filter(product -> product.getProductDescription().toLowerCase().contains(description.toLowerCase()))
-            .toList();
+        return findAllInOrder(searchIndexService.searchProductDescriptions(description));
+    }
+    public CursorPageDTO<Product> searchProducts(String category, Double minPrice, Double maxPrice,
+                                                 String name, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<Product> items = productRepository.search(
+            category, minPrice, maxPrice, name, cursor, PageRequest.of(0, pageSize));
+        String nextCursor = items.size() == pageSize
+            ? items.get(items.size() - 1).getProductId()
+            : null;
+        return new CursorPageDTO<>(items, nextCursor, pageSize);
+    }
+    public FacetResultDTO getFacets(String category, Double minPrice, Double maxPrice, boolean inStock,
+                                    String cursor, int size, double bucketWidth) {
+        return productFacetService.getFacets(category, minPrice, maxPrice, inStock, cursor,
+            Math.max(1, Math.min(size, MAX_PAGE_SIZE)), bucketWidth);
     }
     public List<Product> getProductsByRating(double rating) {
-        return productRepository.findAll().stream()
-            .filter(product -> product.getReviews() != null && product.getReviews().stream()
-                .anyMatch(review -> review.getRating() >= rating))
-            .toList();
+        return productRatingService.getProductsWithReviewAtLeast(rating);
+    }
+    public List<Product> getTopRatedInCategory(String category, int limit) {
+        return productRatingService.getTopRatedInCategory(category, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+    }
+    public ProductRating getProductRating(String productId) {
+        return productRatingService.getRating(productId);
+    }
+    public List<CoPurchaseDTO> getBoughtTogether(String productId, int limit) {
+        return coPurchaseService.getBoughtTogether(productId, limit);
+    }
+    public int rebuildRatings() {
+        return productRatingService.rebuild();
     }
     public List<Product> getProductsByReviewContent(String content) {
-        return productRepository.findAll().stream()
-            .filter(product -> product.getReviews() != null && product.getReviews().stream()
-                .anyMatch(review -> review.getContent().toLowerCase().contains(content.toLowerCase())))
-            .toList();
+        return findAllInOrder(searchIndexService.searchProductsByReviewContent(content));
     }
     public List<Product> getProductsByUserId(String userId) {
         return productRepository.findAll().stream()
@@ -75,10 +144,29 @@ public class ProductService {
             .toList();
     }
     public List<Product> getProductsByOrderId(String orderId) {
-        return productRepository.findAll().stream()
-            .filter(product -> product.getOrders() != null && product.getOrders().stream()
-                .anyMatch(order -> order.getOrderId().equals(orderId)))
-            .toList();
+        return productRepository.findByOrderId(orderId);
+    }
+    private List<Product> findAllInOrder(List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Product> byId = productRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+    public Map<String, Map<String, Long>> getCacheStats() {
+        Map<String, Map<String, Long>> result = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            if (cacheManager.getCache(name) instanceof CaffeineCache cache) {
+                CacheStats stats = cache.getNativeCache().stats();
+                Map<String, Long> counters = new LinkedHashMap<>();
+                counters.put("size", cache.getNativeCache().estimatedSize());
+                counters.put("hits", stats.hitCount());
+                counters.put("misses", stats.missCount());
+                counters.put("evictions", stats.evictionCount());
+                result.put(name, counters);
+            }
+        }
+        return result;
     }
-    
 }
@@ -0,0 +1,259 @@
+package com.example.zyno.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+import com.example.zyno.dto.FacetResultDTO;
+import com.example.zyno.dto.PriceBucketDTO;
+import com.example.zyno.dto.ProductListDTO;
+
+/**
+ * Column-oriented copy of the catalog for faceted browsing. Each product is one row across
+ * parallel arrays: price and stock are primitive columns, and the category is stored as an int
+ * code into a dictionary. A facet query is a single scan over those arrays that filters, counts
+ * categories and fills the price histogram together. Writes update a row in place; a deleted
+ * product's row is tombstoned and dropped at the next rebuild.
+ */
+public class ProductSnapshot {
+    public static final int MAX_PRICE_BUCKETS = 100;
+    private static final int NO_CATEGORY = -1;
+    private static final int ANY_CATEGORY = -2;
+    private static final int UNKNOWN_CATEGORY = -3;
+
+    private final Map<String, Integer> rowOf = new HashMap<>();
+    private final Map<String, Integer> categoryCodes = new HashMap<>();
+    private final List<String> categories = new ArrayList<>();
+    private String[] productIds = new String[16];
+    private String[] productNames = new String[16];
+    private int[] categoryCode = new int[16];
+    private double[] price = new double[16];
+    private int[] stock = new int[16];
+    private boolean[] live = new boolean[16];
+    private int rows;
+    private int liveRows;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void upsert(ProductListDTO product) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowOf.get(product.productId());
+            if (row == null) {
+                row = rows++;
+                ensureCapacity(rows);
+                rowOf.put(product.productId(), row);
+                productIds[row] = product.productId();
+            }
+            if (!live[row]) {
+                live[row] = true;
+                liveRows++;
+            }
+            productNames[row] = product.productName();
+            categoryCode[row] = encode(product.category());
+            price[row] = product.price();
+            stock[row] = product.stockQuantity();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String productId) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowOf.get(productId);
+            if (row != null && live[row]) {
+                live[row] = false;
+                liveRows--;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void adjustStock(String productId, int delta) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowOf.get(productId);
+            if (row != null) {
+                stock[row] += delta;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveRows;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Runs one facet query. With {@code parallelism > 1} the rows are split into contiguous ranges
+     * scanned on the common fork-join pool, and each range's counts and page candidates are merged
+     * afterwards. The read lock is held for the whole scan, so writers wait rather than tear a row.
+     */
+    public FacetResultDTO facets(String category, Double minPrice, Double maxPrice, boolean inStock,
+                                 String cursor, int size, double bucketWidth, int parallelism) {
+        lock.readLock().lock();
+        try {
+            Query query = new Query(
+                category == null ? ANY_CATEGORY : categoryCodes.getOrDefault(category, UNKNOWN_CATEGORY),
+                minPrice == null ? Double.NEGATIVE_INFINITY : minPrice,
+                maxPrice == null ? Double.POSITIVE_INFINITY : maxPrice,
+                inStock, cursor, size, bucketWidth);
+            int chunks = parallelism > 1 ? parallelism * 4 : 1;
+            IntStream ranges = IntStream.range(0, chunks);
+            if (chunks > 1) {
+                ranges = ranges.parallel();
+            }
+            Partial result = ranges
+                .mapToObj(chunk -> scan(query, (int) ((long) rows * chunk / chunks), (int) ((long) rows * (chunk + 1) / chunks)))
+                .reduce(Partial::merge)
+                .orElseGet(() -> new Partial(query, categories.size()));
+            return toResult(query, result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Each facet ignores its own filter: category counts skip the category test and price buckets
+    // skip the price test, while the page and total need every filter to pass.
+    private Partial scan(Query query, int from, int to) {
+        Partial partial = new Partial(query, categories.size());
+        for (int row = from; row < to; row++) {
+            if (!live[row] || (query.inStock && stock[row] <= 0)) {
+                continue;
+            }
+            int code = categoryCode[row];
+            double rowPrice = price[row];
+            boolean categoryMatches = query.category == ANY_CATEGORY || code == query.category;
+            boolean priceMatches = rowPrice >= query.minPrice && rowPrice <= query.maxPrice;
+            if (priceMatches && code != NO_CATEGORY) {
+                partial.categoryCounts[code]++;
+            }
+            if (categoryMatches) {
+                partial.priceBuckets[bucketOf(rowPrice, query.bucketWidth)]++;
+            }
+            if (categoryMatches && priceMatches) {
+                partial.total++;
+                if (query.cursor == null || productIds[row].compareTo(query.cursor) > 0) {
+                    partial.afterCursor++;
+                    partial.keep(row);
+                }
+            }
+        }
+        return partial;
+    }
+
+    private FacetResultDTO toResult(Query query, Partial result) {
+        List<ProductListDTO> items = new ArrayList<>(result.page.size());
+        while (!result.page.isEmpty()) {
+            int row = result.page.poll();
+            items.add(new ProductListDTO(productIds[row], productNames[row], decode(categoryCode[row]), price[row], stock[row]));
+        }
+        items.sort(Comparator.comparing(ProductListDTO::productId));
+        String nextCursor = result.afterCursor > items.size() ? items.get(items.size() - 1).productId() : null;
+
+        Map<String, Integer> categoryCounts = new LinkedHashMap<>();
+        IntStream.range(0, result.categoryCounts.length)
+            .filter(code -> result.categoryCounts[code] > 0)
+            .boxed()
+            .sorted(Comparator.comparingInt((Integer code) -> result.categoryCounts[code]).reversed())
+            .forEach(code -> categoryCounts.put(categories.get(code), result.categoryCounts[code]));
+
+        List<PriceBucketDTO> priceBuckets = new ArrayList<>();
+        for (int bucket = 0; bucket < MAX_PRICE_BUCKETS; bucket++) {
+            if (result.priceBuckets[bucket] > 0) {
+                Double to = bucket == MAX_PRICE_BUCKETS - 1 ? null : (bucket + 1) * query.bucketWidth;
+                priceBuckets.add(new PriceBucketDTO(bucket * query.bucketWidth, to, result.priceBuckets[bucket]));
+            }
+        }
+        return new FacetResultDTO(items, nextCursor, result.total, categoryCounts, priceBuckets);
+    }
+
+    private static int bucketOf(double price, double bucketWidth) {
+        int bucket = (int) (price / bucketWidth);
+        return Math.max(0, Math.min(bucket, MAX_PRICE_BUCKETS - 1));
+    }
+
+    private int encode(String category) {
+        if (category == null) {
+            return NO_CATEGORY;
+        }
+        return categoryCodes.computeIfAbsent(category, key -> {
+            categories.add(key);
+            return categories.size() - 1;
+        });
+    }
+
+    private String decode(int code) {
+        return code == NO_CATEGORY ? null : categories.get(code);
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed > productIds.length) {
+            int capacity = Math.max(needed, productIds.length * 2);
+            productIds = Arrays.copyOf(productIds, capacity);
+            productNames = Arrays.copyOf(productNames, capacity);
+            categoryCode = Arrays.copyOf(categoryCode, capacity);
+            price = Arrays.copyOf(price, capacity);
+            stock = Arrays.copyOf(stock, capacity);
+            live = Arrays.copyOf(live, capacity);
+        }
+    }
+
+    private record Query(int category, double minPrice, double maxPrice, boolean inStock,
+                         String cursor, int size, double bucketWidth) {
+    }
+
+    // Counts for one range of rows, plus its page candidates: a max-heap by productId capped at the
+    // page size, so the heap root is the candidate to evict when a smaller id turns up.
+    private final class Partial {
+        private final Query query;
+        private final int[] categoryCounts;
+        private final int[] priceBuckets = new int[MAX_PRICE_BUCKETS];
+        private final PriorityQueue<Integer> page;
+        private int total;
+        private int afterCursor;
+
+        private Partial(Query query, int categoryCount) {
+            this.query = query;
+            this.categoryCounts = new int[categoryCount];
+            this.page = new PriorityQueue<>(query.size + 1, Comparator.comparing((Integer row) -> productIds[row]).reversed());
+        }
+
+        private void keep(int row) {
+            if (page.size() < query.size) {
+                page.add(row);
+            } else if (productIds[row].compareTo(productIds[page.peek()]) < 0) {
+                page.poll();
+                page.add(row);
+            }
+        }
+
+        private Partial merge(Partial other) {
+            for (int code = 0; code < categoryCounts.length; code++) {
+                categoryCounts[code] += other.categoryCounts[code];
+            }
+            for (int bucket = 0; bucket < MAX_PRICE_BUCKETS; bucket++) {
+                priceBuckets[bucket] += other.priceBuckets[bucket];
+            }
+            total += other.total;
+            afterCursor += other.afterCursor;
+            other.page.forEach(this::keep);
+            return this;
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.example.zyno.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.zyno.model.Review;
 import com.example.zyno.repository.ReviewRepository;
@@ -12,23 +17,47 @@ import com.example.zyno.repository.ReviewRepository;
 public class ReviewService {
     @Autowired
     private ReviewRepository reviewRepository;
+    @Autowired
+    private SearchIndexService searchIndexService;
+    @Autowired
+    private ProductRatingService productRatingService;
 
+    @Transactional
     public Review saveReview(Review review) {
-        return reviewRepository.save(review);
+        Review previous = review.getId() != null ? reviewRepository.findById(review.getId()).orElse(null) : null;
+        int previousRating = previous != null ? previous.getRating() : 0;
+        Review saved = reviewRepository.save(review);
+        if (previous == null) {
+            productRatingService.reviewAdded(saved);
+        } else {
+            productRatingService.ratingChanged(saved, previousRating);
+        }
+        searchIndexService.indexReview(saved);
+        return saved;
     }
     public Review getReviewById(Long id) {
         return reviewRepository.findById(id).orElse(null);
     }
 
+    @Transactional
     public void deleteReview(Long id) {
-        reviewRepository.deleteById(id);
+        reviewRepository.findById(id).ifPresent(review -> {
+            reviewRepository.delete(review);
+            productRatingService.reviewRemoved(review);
+        });
+        searchIndexService.removeReview(id);
     }
+    @Transactional
     public Review updateReview(Review review, Long id) {
         return reviewRepository.findById(id)
             .map(existingReview -> {
+                int previousRating = existingReview.getRating();
                 existingReview.setRating(review.getRating());
                 existingReview.setContent(review.getContent());
-                return reviewRepository.save(existingReview);
+                Review saved = reviewRepository.save(existingReview);
+                productRatingService.ratingChanged(saved, previousRating);
+                searchIndexService.indexReview(saved);
+                return saved;
             })
             .orElse(null);
     }
@@ -51,9 +80,13 @@ public class ReviewService {
             .toList();
     }
     public List<Review> getReviewsByContent(String content) {
-        return reviewRepository.findAll().stream()
-            .filter(review -> review.getContent().toLowerCase().contains(content.toLowerCase()))
-            .toList();
+        List<Long> ids = searchIndexService.searchReviews(content);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Review> byId = reviewRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Review::getId, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,144 @@
+package com.example.zyno.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.zyno.dto.SalesTotalDTO;
+import com.example.zyno.model.Order;
+import com.example.zyno.model.OrderLineSale;
+import com.example.zyno.model.Product;
+import com.example.zyno.model.SalesDimension;
+import com.example.zyno.model.SalesRollup;
+import com.example.zyno.repository.OrderLineSaleRepository;
+import com.example.zyno.repository.ProductRepository;
+import com.example.zyno.repository.SalesRollupRepository;
+
+// Applies each order's contribution to the daily rollups inside the caller's transaction.
+// An order's split across its products is recorded as OrderLineSale rows when it is placed; removing
+// the order subtracts those rows and a rebuild sums them, so a later price change cannot leave
+// PRODUCT and CATEGORY revenue behind. The split must match OrderLineSaleRepository.ORDER_LINES,
+// which backfills orders that were written without going through this service.
+@Service
+public class SalesRollupService {
+    @Autowired
+    private SalesRollupRepository salesRollupRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private OrderLineSaleRepository orderLineSaleRepository;
+
+    public void orderPlaced(Order order) {
+        if (order.getOrderDate() == null) {
+            return;
+        }
+        applyTotal(order, 1);
+        List<OrderLineSale> lines = splitLines(order);
+        orderLineSaleRepository.saveAll(lines);
+        applyLines(lines, 1);
+    }
+    public void orderRemoved(Order order) {
+        if (order.getOrderDate() != null) {
+            applyTotal(order, -1);
+        }
+        applyLines(orderLineSaleRepository.findByOrderId(order.getOrderId()), -1);
+        orderLineSaleRepository.deleteByOrderId(order.getOrderId());
+    }
+
+    public List<SalesRollup> getDaily(SalesDimension dimension, String key, LocalDate from, LocalDate to) {
+        return salesRollupRepository.findDaily(dimension, dimension == SalesDimension.TOTAL ? "" : key, from, to);
+    }
+    public List<SalesTotalDTO> getTotals(SalesDimension dimension, LocalDate from, LocalDate to, int limit) {
+        return salesRollupRepository.findTotals(dimension, from, to, PageRequest.of(0, limit));
+    }
+
+    @Transactional
+    @Scheduled(cron = "${zyno.sales.rebuild-cron:-}")
+    public int rebuild() {
+        salesRollupRepository.deleteAllRollups();
+        orderLineSaleRepository.deleteOrphanedLines();
+        orderLineSaleRepository.insertMissingLines();
+        return salesRollupRepository.insertTotalsFromOrders()
+            + salesRollupRepository.insertProductsFromLines()
+            + salesRollupRepository.insertCategoriesFromLines();
+    }
+
+    private void applyTotal(Order order, int sign) {
+        salesRollupRepository.applyDelta(order.getOrderDate().toLocalDate(), SalesDimension.TOTAL.name(), "",
+            (long) sign * order.getQuantity(), sign * order.getTotalAmount(), sign);
+    }
+
+    // Splits the order total across its lines in proportion to the products' current prices.
+    private List<OrderLineSale> splitLines(Order order) {
+        List<Product> products = resolveLines(order);
+        double priceSum = products.stream().mapToDouble(Product::getPrice).sum();
+        LocalDate day = order.getOrderDate().toLocalDate();
+        List<OrderLineSale> lines = new ArrayList<>();
+        for (Product product : products) {
+            long units = products.size() == 1 ? order.getQuantity() : 1;
+            double revenue = priceSum > 0
+                ? order.getTotalAmount() * product.getPrice() / priceSum
+                : order.getTotalAmount() / products.size();
+            lines.add(new OrderLineSale(order.getOrderId(), product.getProductId(),
+                product.getCategory() != null ? product.getCategory() : "", day, units, revenue));
+        }
+        return lines;
+    }
+
+    // All lines of one order share its sales date.
+    private void applyLines(List<OrderLineSale> lines, int sign) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        LocalDate day = lines.get(0).getSalesDate();
+        // Sorted keys give concurrent writers the same row lock order.
+        Map<String, double[]> byProduct = new TreeMap<>();
+        Map<String, double[]> byCategory = new TreeMap<>();
+        for (OrderLineSale line : lines) {
+            add(byProduct, line.getProductId(), line.getUnits(), line.getRevenue());
+            add(byCategory, line.getCategory(), line.getUnits(), line.getRevenue());
+        }
+        byProduct.forEach((productId, totals) -> salesRollupRepository.applyDelta(day,
+            SalesDimension.PRODUCT.name(), productId, sign * (long) totals[0], sign * totals[1], sign));
+        byCategory.forEach((category, totals) -> salesRollupRepository.applyDelta(day,
+            SalesDimension.CATEGORY.name(), category, sign * (long) totals[0], sign * totals[1], sign));
+    }
+
+    // Request bodies usually carry bare product ids, so price and category come from the Product table.
+    // Lines whose product no longer exists are left out, as the backfill's inner join does.
+    private List<Product> resolveLines(Order order) {
+        List<Product> lines = new ArrayList<>();
+        if (order.getProducts() == null || order.getProducts().isEmpty()) {
+            return lines;
+        }
+        List<String> ids = order.getProducts().stream()
+            .filter(product -> product != null && product.getProductId() != null)
+            .map(Product::getProductId)
+            .toList();
+        Map<String, Product> products = productRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+        for (String id : ids) {
+            Product product = products.get(id);
+            if (product != null) {
+                lines.add(product);
+            }
+        }
+        return lines;
+    }
+
+    private static void add(Map<String, double[]> totals, String key, long units, double revenue) {
+        double[] entry = totals.computeIfAbsent(key, k -> new double[2]);
+        entry[0] += units;
+        entry[1] += revenue;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.zyno.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.example.zyno.model.Product;
+import com.example.zyno.model.Review;
+import com.example.zyno.repository.ProductRepository;
+import com.example.zyno.repository.ReviewRepository;
+
+@Service
+public class SearchIndexService {
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    private final InvertedIndex<String> productNameIndex = new InvertedIndex<>();
+    private final InvertedIndex<String> productDescriptionIndex = new InvertedIndex<>();
+    private final InvertedIndex<Long> reviewContentIndex = new InvertedIndex<>();
+    private final Map<Long, String> reviewProducts = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        productNameIndex.clear();
+        productDescriptionIndex.clear();
+        reviewContentIndex.clear();
+        reviewProducts.clear();
+        for (Object[] row : productRepository.findSearchableText()) {
+            String productId = (String) row[0];
+            productNameIndex.put(productId, (String) row[1]);
+            productDescriptionIndex.put(productId, (String) row[2]);
+        }
+        for (Object[] row : reviewRepository.findSearchableText()) {
+            Long reviewId = (Long) row[0];
+            reviewContentIndex.put(reviewId, (String) row[1]);
+            reviewProducts.put(reviewId, (String) row[2]);
+        }
+    }
+
+    public void indexProduct(Product product) {
+        if (product == null) {
+            return;
+        }
+        productNameIndex.put(product.getProductId(), product.getProductName());
+        productDescriptionIndex.put(product.getProductId(), product.getProductDescription());
+    }
+    public void removeProduct(String productId) {
+        productNameIndex.remove(productId);
+        productDescriptionIndex.remove(productId);
+    }
+    public void indexReview(Review review) {
+        if (review == null) {
+            return;
+        }
+        reviewContentIndex.put(review.getId(), review.getContent());
+        if (review.getProduct() != null) {
+            reviewProducts.put(review.getId(), review.getProduct().getProductId());
+        }
+    }
+    public void removeReview(Long reviewId) {
+        reviewContentIndex.remove(reviewId);
+        reviewProducts.remove(reviewId);
+    }
+
+    public List<String> searchProductNames(String query) {
+        return productNameIndex.search(query);
+    }
+    public List<String> searchProductDescriptions(String query) {
+        return productDescriptionIndex.search(query);
+    }
+    public List<Long> searchReviews(String query) {
+        return reviewContentIndex.search(query);
+    }
+    public List<String> searchProductsByReviewContent(String query) {
+        Set<String> productIds = new LinkedHashSet<>();
+        for (Long reviewId : reviewContentIndex.search(query)) {
+            String productId = reviewProducts.get(reviewId);
+            if (productId != null) {
+                productIds.add(productId);
+            }
+        }
+        return new ArrayList<>(productIds);
+    }
+}
@@ -1,13 +1,152 @@
 package com.example.zyno.service;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.example.zyno.model.Order;
+import com.example.zyno.model.Transaction;
+import com.example.zyno.model.TransactionStatus;
+import com.example.zyno.payment.PaymentGateway;
+import com.example.zyno.payment.PaymentRequest;
+import com.example.zyno.payment.PaymentResult;
+import com.example.zyno.repository.OrderRepository;
 import com.example.zyno.repository.TransactionRepository;
 
+/**
+ * Payment ledger. A payment is recorded as a PENDING transaction, charged on the bounded
+ * {@code paymentExecutor} after the row commits, and completed with a conditional update.
+ * Requests carrying an idempotency key that was already seen return the existing transaction,
+ * and the key is forwarded to the gateway so a resubmitted charge is not taken twice.
+ */
 @Service
 public class TransactionService {
+    private static final Logger log = LoggerFactory.getLogger(TransactionService.class);
+
     @Autowired
     private TransactionRepository transactionRepository;
-   
-}
\ No newline at end of file
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private PaymentGateway paymentGateway;
+    @Autowired
+    @Qualifier("paymentExecutor")
+    private Executor paymentExecutor;
+
+    @Value("${zyno.payments.resubmit-after:PT30S}")
+    private Duration resubmitAfter;
+
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final TransactionTemplate transactionTemplate;
+
+    public TransactionService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public Transaction pay(String orderId, String idempotencyKey, String paymentMethod) {
+        try {
+            return transactionTemplate.execute(status -> recordPending(orderId, idempotencyKey, paymentMethod));
+        } catch (DataIntegrityViolationException e) {
+            // a concurrent request with the same key won the insert
+            return transactionRepository.findByIdempotencyKey(idempotencyKey).orElseThrow(() -> e);
+        }
+    }
+
+    public Transaction getTransactionById(String id) {
+        return transactionRepository.findById(id).orElse(null);
+    }
+    public Transaction getTransactionByOrderId(String orderId) {
+        return transactionRepository.findFirstByOrderOrderIdOrderByTransactionIdDesc(orderId).orElse(null);
+    }
+
+    private Transaction recordPending(String orderId, String idempotencyKey, String paymentMethod) {
+        // Taken before anything else is read, so the checks below see attempts committed by whoever
+        // held the lock before us, and two keys can never both start a payment for one order.
+        Order order = orderRepository.lockById(orderId).orElse(null);
+        Optional<Transaction> existing = transactionRepository.findByIdempotencyKey(idempotencyKey);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        if (order == null) {
+            return null;
+        }
+        Transaction latest = transactionRepository.findFirstByOrderOrderIdOrderByTransactionIdDesc(orderId).orElse(null);
+        if (latest != null && latest.getStatus() != TransactionStatus.FAILED) {
+            // the order is already paid or being paid under another key
+            return latest;
+        }
+        // a retry after FAILED is a new attempt; the failed one keeps its key and reason
+        Transaction transaction = new Transaction();
+        transaction.setOrder(order);
+        transaction.setIdempotencyKey(idempotencyKey);
+        transaction.setAmount(order.getTotalAmount());
+        transaction.setPaymentMethod(paymentMethod);
+        transaction.setStatus(TransactionStatus.PENDING);
+        Transaction saved = transactionRepository.saveAndFlush(transaction);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(saved);
+            }
+        });
+        return saved;
+    }
+
+    private void submit(Transaction transaction) {
+        if (!inFlight.add(transaction.getTransactionId())) {
+            return;
+        }
+        PaymentRequest request = new PaymentRequest(transaction.getTransactionId(), transaction.getIdempotencyKey(),
+            transaction.getAmount(), transaction.getPaymentMethod());
+        try {
+            paymentExecutor.execute(() -> charge(request));
+        } catch (RejectedExecutionException e) {
+            // stays PENDING and is picked up by resubmitStalePayments
+            inFlight.remove(transaction.getTransactionId());
+        }
+    }
+
+    private void charge(PaymentRequest request) {
+        try {
+            PaymentResult result = paymentGateway.charge(request);
+            transactionTemplate.executeWithoutResult(status -> transactionRepository.complete(request.transactionId(),
+                result.succeeded() ? TransactionStatus.SUCCEEDED : TransactionStatus.FAILED,
+                result.reference(), result.failureReason()));
+        } catch (RuntimeException e) {
+            log.warn("Payment {} failed to complete, will be retried", request.transactionId(), e);
+        } finally {
+            inFlight.remove(request.transactionId());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumePendingPayments() {
+        transactionRepository.findByStatusAndUpdatedAtBefore(TransactionStatus.PENDING, Instant.now())
+            .forEach(this::submit);
+    }
+
+    @Scheduled(fixedDelayString = "${zyno.payments.resubmit-interval-ms:30000}")
+    public void resubmitStalePayments() {
+        transactionRepository.findByStatusAndUpdatedAtBefore(TransactionStatus.PENDING, Instant.now().minus(resubmitAfter))
+            .forEach(this::submit);
+    }
+}
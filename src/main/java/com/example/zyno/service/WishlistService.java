@@ -0,0 +1,112 @@
+package com.example.zyno.service;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.zyno.dto.CursorPageDTO;
+import com.example.zyno.dto.ProductListDTO;
+import com.example.zyno.dto.WishlistBatchDTO;
+import com.example.zyno.exception.WishlistTargetNotFoundException;
+import com.example.zyno.model.ProductWishCount;
+import com.example.zyno.repository.ProductWishCountRepository;
+import com.example.zyno.repository.WishlistRepository;
+
+// Every change to user_wishlist moves the product's wish counter in the same transaction, and only
+// when a row was actually inserted or deleted, so repeated adds and removes do not drift the count.
+@Service
+public class WishlistService {
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private WishlistRepository wishlistRepository;
+    @Autowired
+    private ProductWishCountRepository productWishCountRepository;
+
+    @Transactional
+    public boolean add(String userId, String productId) {
+        if (wishlistRepository.add(userId, productId) == 0) {
+            if (wishlistRepository.countEntry(userId, productId) == 0) {
+                throw new WishlistTargetNotFoundException(userId, productId);
+            }
+            return false;
+        }
+        productWishCountRepository.applyDelta(productId, 1);
+        return true;
+    }
+    @Transactional
+    public boolean remove(String userId, String productId) {
+        if (wishlistRepository.remove(userId, productId) == 0) {
+            return false;
+        }
+        productWishCountRepository.applyDelta(productId, -1);
+        return true;
+    }
+    public boolean contains(String userId, String productId) {
+        return wishlistRepository.countEntry(userId, productId) > 0;
+    }
+    public List<String> findContained(String userId, Collection<String> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        return wishlistRepository.findContained(userId, productIds);
+    }
+    public CursorPageDTO<ProductListDTO> getWishlist(String userId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<ProductListDTO> items = wishlistRepository.findPage(userId, cursor, PageRequest.of(0, pageSize));
+        String nextCursor = items.size() == pageSize
+            ? items.get(items.size() - 1).productId()
+            : null;
+        return new CursorPageDTO<>(items, nextCursor, pageSize);
+    }
+
+    // Unknown products are skipped rather than failing the whole batch. Ids are applied in sorted
+    // order so concurrent batches lock counter rows in the same order.
+    @Transactional
+    public Map<String, Integer> applyBatch(String userId, WishlistBatchDTO batch) {
+        int added = 0;
+        int removed = 0;
+        if (batch.getAdd() != null) {
+            for (String productId : new TreeSet<>(batch.getAdd())) {
+                if (wishlistRepository.add(userId, productId) > 0) {
+                    productWishCountRepository.applyDelta(productId, 1);
+                    added++;
+                }
+            }
+        }
+        if (batch.getRemove() != null) {
+            for (String productId : new TreeSet<>(batch.getRemove())) {
+                if (wishlistRepository.remove(userId, productId) > 0) {
+                    productWishCountRepository.applyDelta(productId, -1);
+                    removed++;
+                }
+            }
+        }
+        Map<String, Integer> result = new LinkedHashMap<>();
+        result.put("added", added);
+        result.put("removed", removed);
+        return result;
+    }
+
+    public long getWishCount(String productId) {
+        return productWishCountRepository.findById(productId)
+            .map(ProductWishCount::getWishCount)
+            .orElse(0L);
+    }
+
+    // Repairs drift from rows removed outside this service, e.g. when a user or product is deleted.
+    @Transactional
+    @Scheduled(cron = "${zyno.wishlist.rebuild-cron:0 45 3 * * *}")
+    public int rebuild() {
+        productWishCountRepository.deleteAllCounts();
+        return productWishCountRepository.insertFromWishlist();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.zyno.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.core.io.Resource;
+
+/**
+ * Backend that holds raw image bytes outside the database. Blobs are addressed by the
+ * SHA-256 of their content, so storing the same bytes twice yields the same key.
+ * Derived blobs such as resized variants are written under a caller-chosen key instead.
+ */
+public interface BlobStorage {
+
+    StoredBlob store(InputStream content) throws IOException;
+
+    void put(String key, InputStream content) throws IOException;
+
+    Resource load(String key);
+
+    boolean exists(String key);
+
+    void delete(String key) throws IOException;
+}
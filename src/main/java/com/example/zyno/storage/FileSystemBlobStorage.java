@@ -0,0 +1,107 @@
+package com.example.zyno.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stores blobs under {@code <root>/ab/cd/<sha256>}. Content is streamed to a temp file while
+ * it is hashed and then moved into place, so partially written blobs are never visible.
+ */
+@Component
+public class FileSystemBlobStorage implements BlobStorage {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path root;
+    private final Path tmp;
+
+    public FileSystemBlobStorage(@Value("${zyno.storage.image-root:./data/images}") String root) throws IOException {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.tmp = this.root.resolve("tmp");
+        Files.createDirectories(this.tmp);
+    }
+
+    @Override
+    public StoredBlob store(InputStream content) throws IOException {
+        Path temp = Files.createTempFile(tmp, "upload-", ".part");
+        try {
+            MessageDigest digest = ContentHash.newDigest();
+            long size = 0;
+            try (OutputStream out = new DigestOutputStream(Files.newOutputStream(temp), digest)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = content.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                    size += read;
+                }
+            }
+            String key = ContentHash.toHex(digest);
+            Path target = resolve(key);
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, target);
+                } catch (FileAlreadyExistsException e) {
+                    // another upload of the same content won the race
+                }
+            }
+            return new StoredBlob(key, size);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public void put(String key, InputStream content) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(tmp, "put-", ".part");
+        try {
+            Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public Resource load(String key) {
+        return new FileSystemResource(resolve(key));
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    Path resolve(String key) {
+        if (key == null || key.length() < 4 || !key.chars().allMatch(Character::isLetterOrDigit)) {
+            throw new IllegalArgumentException("Invalid blob key: " + key);
+        }
+        return root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+    }
+}
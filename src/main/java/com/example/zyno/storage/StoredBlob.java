@@ -0,0 +1,4 @@
+package com.example.zyno.storage;
+
+public record StoredBlob(String key, long size) {
+}
@@ -0,0 +1,113 @@
+package com.example.zyno.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.zyno.metrics.StatementCounter;
+import com.example.zyno.model.Order;
+import com.example.zyno.model.Product;
+import com.example.zyno.model.User;
+import com.example.zyno.repository.OrderRepository;
+import com.example.zyno.repository.ProductRepository;
+import com.example.zyno.repository.UserRepository;
+
+// Counts with the per-thread StatementCounter rather than the global Hibernate statistics, which
+// also see statements from scheduled jobs running while the request is in flight.
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OrderControllerQueryCountTest {
+    private static final int ORDERS = 25;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private StatementCounter statementCounter;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void seed() {
+        if (orderRepository.count() > 0) {
+            return;
+        }
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            User user = new User();
+            user.setUsername("user" + i);
+            users.add(userRepository.save(user));
+        }
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Product product = new Product();
+            product.setProductId("product" + i);
+            product.setProductName("Product " + i);
+            product.setPrice(10 + i);
+            products.add(productRepository.save(product));
+        }
+        for (int i = 0; i < ORDERS; i++) {
+            Order order = new Order();
+            order.setOrderId("order" + i);
+            order.setUser(users.get(i % users.size()));
+            order.setOrderDate(LocalDateTime.now().minusDays(i));
+            order.setProducts(List.of(products.get(i % 10), products.get((i + 3) % 10), products.get((i + 7) % 10)));
+            orderRepository.save(order);
+        }
+    }
+
+    @Test
+    void allOrdersUsesConstantStatements() throws Exception {
+        statementCounter.reset();
+        mockMvc.perform(get("/orders/all"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(ORDERS))
+            .andExpect(jsonPath("$[0].products.length()").value(3));
+        assertThat(statementCounter.current()).isEqualTo(2);
+    }
+
+    @Test
+    void ordersByUserUsesConstantStatements() throws Exception {
+        statementCounter.reset();
+        mockMvc.perform(get("/orders/user/user1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(ORDERS / 5));
+        assertThat(statementCounter.current()).isEqualTo(2);
+    }
+
+    @Test
+    void ordersByProductUsesConstantStatements() throws Exception {
+        statementCounter.reset();
+        mockMvc.perform(get("/orders/product/product0"))
+            .andExpect(status().isOk());
+        assertThat(statementCounter.current()).isEqualTo(2);
+    }
+
+    @Test
+    void orderByIdLoadsDetailsInOneStatement() throws Exception {
+        statementCounter.reset();
+        mockMvc.perform(get("/orders/order3"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.orderId").value("order3"))
+            .andExpect(jsonPath("$.user.username").value("user3"))
+            .andExpect(jsonPath("$.products.length()").value(3));
+        assertThat(statementCounter.current()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.zyno.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.zyno.model.Product;
+import com.example.zyno.repository.ProductRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:formats;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProductControllerResponseFormatTest {
+    private static final MediaType CBOR = MediaType.valueOf("application/cbor");
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ProductRepository productRepository;
+
+    @BeforeEach
+    void seed() {
+        Product product = new Product();
+        product.setProductId("format-1");
+        product.setProductName("Format lamp");
+        product.setProductDescription("Not part of list payloads");
+        product.setCategory("formats");
+        product.setPrice(19.5);
+        product.setStockQuantity(7);
+        productRepository.save(product);
+    }
+
+    @Test
+    void listEndpointsReturnTheLeanDtoByDefault() throws Exception {
+        mockMvc.perform(get("/products/category/formats"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].productId").value("format-1"))
+            .andExpect(jsonPath("$[0].productName").value("Format lamp"))
+            .andExpect(jsonPath("$[0].stockQuantity").value(7))
+            .andExpect(jsonPath("$[0].productDescription").doesNotExist());
+    }
+
+    @Test
+    void fieldsParameterTrimsEachItem() throws Exception {
+        mockMvc.perform(get("/products/category/formats").param("fields", "productId, price"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].productId").value("format-1"))
+            .andExpect(jsonPath("$[0].price").value(19.5))
+            .andExpect(jsonPath("$[0].productName").doesNotExist())
+            .andExpect(jsonPath("$[0].category").doesNotExist())
+            .andExpect(jsonPath("$[0].stockQuantity").doesNotExist());
+    }
+
+    @Test
+    void fieldsParameterLeavesWrappersWhole() throws Exception {
+        mockMvc.perform(get("/products/search").param("category", "formats").param("fields", "productId"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.size").value(20))
+            .andExpect(jsonPath("$.items[0].productId").value("format-1"))
+            .andExpect(jsonPath("$.items[0].price").doesNotExist());
+    }
+
+    @Test
+    void acceptCborReturnsTheSamePayloadInCbor() throws Exception {
+        byte[] body = mockMvc.perform(get("/products/category/formats").accept(CBOR).param("fields", "productId,price"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(CBOR))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode items = new CBORMapper().readTree(body);
+        assertThat(items.get(0).get("productId").asText()).isEqualTo("format-1");
+        assertThat(items.get(0).get("price").asDouble()).isEqualTo(19.5);
+        assertThat(items.get(0).has("productName")).isFalse();
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.zyno.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class UlidTest {
+
+    @Test
+    void ulidsAreStrictlyIncreasing() {
+        String previous = Ulid.next();
+        for (int i = 0; i < 100_000; i++) {
+            String next = Ulid.next();
+            assertThat(next).hasSize(26).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+}
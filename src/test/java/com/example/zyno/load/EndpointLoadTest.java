@@ -0,0 +1,241 @@
+package com.example.zyno.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.zyno.service.ImageService;
+import com.example.zyno.service.ProductRatingService;
+import com.example.zyno.service.SalesRollupService;
+import com.example.zyno.service.SearchIndexService;
+
+/**
+ * Drives mixed read/write HTTP traffic at the running application and reports requests per second and
+ * latency percentiles per endpoint at each data scale. Excluded from the normal build; run with
+ * {@code mvn -Ploadtest test}, tuning through {@code -Dzyno.load.scales=0.01,0.1,1}, {@code .threads},
+ * {@code .warmup-seconds} and {@code .duration-seconds}. Results also go to target/load-test/report-{mode}.csv,
+ * where the mode is "platform" here and "virtual" in {@link VirtualThreadEndpointLoadTest}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:load;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+    "spring.jpa.properties.hibernate.generate_statistics=false",
+    "zyno.storage.image-root=target/load-images",
+    "logging.level.root=WARN"
+})
+@ActiveProfiles("test")
+@DirtiesContext
+class EndpointLoadTest {
+    // Scale 1 is 1M products, 100k users, 10M reviews and 5M orders.
+    private static final int BASE_PRODUCTS = 1_000_000;
+    private static final int BASE_USERS = 100_000;
+    private static final int BASE_REVIEWS = 10_000_000;
+    private static final int BASE_ORDERS = 5_000_000;
+    // Cart writes and checkouts share a small pool of buyers so that checkouts usually find a cart.
+    private static final int BUYERS = 1000;
+    private static final int IMAGES = 200;
+    private static final int IMAGE_BYTES = 32 * 1024;
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private SearchIndexService searchIndexService;
+    @Autowired
+    private ProductRatingService productRatingService;
+    @Autowired
+    private SalesRollupService salesRollupService;
+    @Autowired
+    private ImageService imageService;
+
+    @Value("${zyno.load.scales:0.001,0.01}")
+    private String scales;
+    @Value("${zyno.load.threads:16}")
+    private int threads;
+    @Value("${zyno.load.warmup-seconds:5}")
+    private int warmupSeconds;
+    @Value("${zyno.load.duration-seconds:20}")
+    private int durationSeconds;
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    private record Operation(String name, int weight, Function<Random, HttpRequest> request) {
+    }
+
+    @Test
+    void mixedTrafficAtEachScale() throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        LoadDataGenerator generator = new LoadDataGenerator(jdbcTemplate);
+        List<Long> imageIds = new ArrayList<>();
+        StringBuilder csv = new StringBuilder("mode,scale,endpoint,requests,errors,rps,p50_ms,p90_ms,p99_ms,max_ms\n");
+        long totalRequests = 0;
+        long totalErrors = 0;
+        for (String value : scales.split(",")) {
+            double scale = Double.parseDouble(value.trim());
+            long seedStart = System.nanoTime();
+            generator.growTo(scaled(BASE_PRODUCTS, scale), scaled(BASE_USERS, scale),
+                scaled(BASE_REVIEWS, scale), scaled(BASE_ORDERS, scale));
+            searchIndexService.rebuild();
+            productRatingService.rebuild();
+            salesRollupService.rebuild();
+            if (imageIds.isEmpty()) {
+                imageIds.addAll(seedImages());
+            }
+            System.out.printf("load (%s threads): scale %s seeded to %d products, %d orders in %.1fs%n",
+                mode, value.trim(), generator.products(), generator.orders(), (System.nanoTime() - seedStart) / 1e9);
+
+            List<Operation> operations = operations(generator, imageIds);
+            drive(operations, warmupSeconds, new LatencyRecorder());
+            LatencyRecorder recorder = new LatencyRecorder();
+            double seconds = drive(operations, durationSeconds, recorder);
+
+            System.out.printf("%-16s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+            for (Map.Entry<String, LatencyRecorder.Stats> entry : recorder.snapshot(seconds).entrySet()) {
+                LatencyRecorder.Stats s = entry.getValue();
+                System.out.printf("%-16s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", entry.getKey(),
+                    s.requests(), s.errors(), s.perSecond(), s.p50Ms(), s.p90Ms(), s.p99Ms(), s.maxMs());
+                csv.append(String.format("%s,%s,%s,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f%n", mode, value.trim(), entry.getKey(),
+                    s.requests(), s.errors(), s.perSecond(), s.p50Ms(), s.p90Ms(), s.p99Ms(), s.maxMs()));
+                totalRequests += s.requests();
+                totalErrors += s.errors();
+            }
+        }
+        Path report = Path.of("target", "load-test", "report-" + mode + ".csv");
+        Files.createDirectories(report.getParent());
+        Files.writeString(report, csv);
+
+        assertThat(totalRequests).isPositive();
+        assertThat(totalErrors).isLessThanOrEqualTo(totalRequests / 100);
+    }
+
+    private List<Operation> operations(LoadDataGenerator data, List<Long> imageIds) {
+        int products = data.products();
+        int users = data.users();
+        int orders = data.orders();
+        int buyers = Math.min(BUYERS, users);
+        return List.of(
+            new Operation("product-by-id", 25, r -> get("/products/" + LoadDataGenerator.productId(r.nextInt(products)))),
+            new Operation("product-search", 15, r -> {
+                double min = r.nextInt(900);
+                return get("/products/search?category=" + LoadDataGenerator.category(r.nextInt(products))
+                    + "&minPrice=" + min + "&maxPrice=" + (min + 100) + "&size=20");
+            }),
+            new Operation("top-rated", 5, r -> get("/products/top-rated/" + LoadDataGenerator.category(r.nextInt(products)))),
+            new Operation("cart-summary", 10, r -> get("/cart-items/user/" + LoadDataGenerator.username(r.nextInt(buyers)) + "/summary")),
+            new Operation("cart-batch", 10, r -> post("/cart-items/user/" + LoadDataGenerator.username(r.nextInt(buyers)) + "/batch",
+                "[{\"productId\":\"" + LoadDataGenerator.productId(r.nextInt(products)) + "\",\"quantity\":" + (1 + r.nextInt(3)) + "}]")),
+            new Operation("checkout", 5, r -> post("/orders/checkout/" + LoadDataGenerator.username(r.nextInt(buyers))
+                + "?address=1%20Load%20Street", "")),
+            new Operation("order-save", 5, r -> {
+                String username = LoadDataGenerator.username(r.nextInt(users));
+                int product = r.nextInt(products);
+                return post("/orders/save", "{\"userId\":\"" + username + "\",\"user\":{\"username\":\"" + username + "\"},"
+                    + "\"address\":\"2 Load Street\",\"quantity\":1,\"totalAmount\":" + LoadDataGenerator.price(product) + ","
+                    + "\"orderDate\":\"2025-01-01T12:00:00\",\"products\":[{\"productId\":\""
+                    + LoadDataGenerator.productId(product) + "\"}]}");
+            }),
+            new Operation("orders-by-user", 10, r -> get("/orders/user/" + LoadDataGenerator.username(r.nextInt(users)))),
+            new Operation("order-by-id", 5, r -> get("/orders/" + LoadDataGenerator.orderId(r.nextInt(orders)))),
+            new Operation("image-download", 10, r -> get("/images/download/" + imageIds.get(r.nextInt(imageIds.size()))))
+        );
+    }
+
+    private double drive(List<Operation> operations, int seconds, LatencyRecorder recorder) throws Exception {
+        int totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+        long start = System.nanoTime();
+        long deadline = start + seconds * 1_000_000_000L;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                Random random = new Random(42 + t);
+                workers.add(executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        Operation operation = pick(operations, random.nextInt(totalWeight));
+                        HttpRequest request = operation.request().apply(random);
+                        long sent = System.nanoTime();
+                        boolean error;
+                        try {
+                            error = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() >= 500;
+                        } catch (IOException e) {
+                            error = true;
+                        }
+                        recorder.record(operation.name(), System.nanoTime() - sent, error);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return (System.nanoTime() - start) / 1e9;
+    }
+
+    private List<Long> seedImages() throws IOException {
+        List<Long> ids = new ArrayList<>(IMAGES);
+        for (int i = 0; i < IMAGES; i++) {
+            byte[] data = new byte[IMAGE_BYTES];
+            new Random(i).nextBytes(data);
+            ids.add(imageService.saveImage(data, "load" + i + ".bin", "application/octet-stream", null));
+        }
+        return ids;
+    }
+
+    private static Operation pick(List<Operation> operations, int roll) {
+        for (Operation operation : operations) {
+            roll -= operation.weight();
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+
+    private static int scaled(int base, double scale) {
+        return Math.max(1, (int) Math.round(base * scale));
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+            .timeout(Duration.ofSeconds(30)).GET().build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+            .timeout(Duration.ofSeconds(30))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json)).build();
+    }
+}
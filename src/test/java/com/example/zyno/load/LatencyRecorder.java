@@ -0,0 +1,59 @@
+package com.example.zyno.load;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects raw per-request latencies by endpoint and reports throughput and percentiles.
+ * Keeping every sample is fine at load-test volumes and avoids histogram bucketing error in the tail.
+ */
+class LatencyRecorder {
+    private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long nanos, boolean error) {
+        samples.computeIfAbsent(endpoint, e -> new Samples()).add(nanos, error);
+    }
+
+    Map<String, Stats> snapshot(double seconds) {
+        Map<String, Stats> stats = new TreeMap<>();
+        samples.forEach((endpoint, s) -> stats.put(endpoint, s.stats(seconds)));
+        return stats;
+    }
+
+    record Stats(long requests, long errors, double perSecond, double p50Ms, double p90Ms, double p99Ms, double maxMs) {
+    }
+
+    private static final class Samples {
+        private long[] nanos = new long[1024];
+        private int count;
+        private long errors;
+
+        synchronized void add(long value, boolean error) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = value;
+            if (error) {
+                errors++;
+            }
+        }
+
+        synchronized Stats stats(double seconds) {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            return new Stats(count, errors, count / seconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                count == 0 ? 0 : sorted[count - 1] / 1e6);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.zyno.load;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Deterministic dataset for the load test, written with plain JDBC batches so millions of rows seed in
+ * minutes rather than hours. Row i always has the same content, so growing from one scale to the next
+ * only appends rows and runs at different scales stay comparable.
+ */
+class LoadDataGenerator {
+    static final int CATEGORIES = 50;
+    static final int PRODUCTS_PER_ORDER = 2;
+    private static final int BATCH = 5000;
+    private static final String[] WORDS = {"steel", "cotton", "wireless", "organic", "classic", "compact", "leather", "smart"};
+    private static final LocalDateTime FIRST_ORDER = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final JdbcTemplate jdbcTemplate;
+    private int products;
+    private int users;
+    private int reviews;
+    private int orders;
+
+    LoadDataGenerator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    int products() {
+        return products;
+    }
+    int users() {
+        return users;
+    }
+    int orders() {
+        return orders;
+    }
+
+    static String productId(int i) {
+        return "p" + i;
+    }
+    static String username(int i) {
+        return "user" + i;
+    }
+    static String orderId(int i) {
+        return String.format("order%010d", i);
+    }
+    static String category(int i) {
+        return "category" + (i % CATEGORIES);
+    }
+    static double price(int i) {
+        return 1 + (i * 7919L % 100000) / 100.0;
+    }
+
+    void growTo(int targetProducts, int targetUsers, int targetReviews, int targetOrders) {
+        insert("INSERT INTO product (product_id, product_name, category, product_description, price, stock_quantity)"
+            + " VALUES (?, ?, ?, ?, ?, ?)", products, targetProducts, i -> new Object[] {
+                productId(i), WORDS[i % WORDS.length] + " product " + i, category(i),
+                "A " + WORDS[(i / WORDS.length) % WORDS.length] + " item number " + i, price(i), 1_000_000});
+        products = Math.max(products, targetProducts);
+
+        insert("INSERT INTO users (username, password, mobile_number, email, first_name, lastname)"
+            + " VALUES (?, ?, ?, ?, ?, ?)", users, targetUsers, i -> new Object[] {
+                username(i), "secret", 0, username(i) + "@example.com", "First" + i, "Last" + i});
+        users = Math.max(users, targetUsers);
+
+        insert("INSERT INTO review (content, rating, product_id, user_id) VALUES (?, ?, ?, ?)",
+            reviews, targetReviews, i -> new Object[] {
+                "Review " + i + " says " + WORDS[i % WORDS.length], 1 + i % 5,
+                productId((int) (i * 31L % products)), username((int) (i * 17L % users))});
+        reviews = Math.max(reviews, targetReviews);
+
+        int lineStart = orders;
+        insert("INSERT INTO orders (order_id, user_id, user_username, address, quantity, total_amount,"
+            + " order_date, expected_delivery) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", orders, targetOrders, i -> {
+                String username = username((int) (i * 13L % users));
+                LocalDateTime orderDate = FIRST_ORDER.plusSeconds(i * 60L);
+                double total = 0;
+                for (int j = 0; j < PRODUCTS_PER_ORDER; j++) {
+                    total += price(orderProduct(i, j));
+                }
+                return new Object[] {orderId(i), username, username, i + " Load Street", PRODUCTS_PER_ORDER, total,
+                    Timestamp.valueOf(orderDate), Date.valueOf(LocalDate.from(orderDate).plusDays(5))};
+            });
+        insert("INSERT INTO order_products (order_id, product_id) VALUES (?, ?)",
+            lineStart * PRODUCTS_PER_ORDER, targetOrders * PRODUCTS_PER_ORDER, line -> new Object[] {
+                orderId(line / PRODUCTS_PER_ORDER), productId(orderProduct(line / PRODUCTS_PER_ORDER, line % PRODUCTS_PER_ORDER))});
+        orders = Math.max(orders, targetOrders);
+    }
+
+    private int orderProduct(int order, int line) {
+        return (int) ((order * 7L + line * 101L) % products);
+    }
+
+    private void insert(String sql, int from, int to, IntFunction<Object[]> row) {
+        for (int start = from; start < to; start += BATCH) {
+            int end = Math.min(start + BATCH, to);
+            List<Object[]> batch = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                batch.add(row.apply(i));
+            }
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+}
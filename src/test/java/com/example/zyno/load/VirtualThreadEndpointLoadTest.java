@@ -0,0 +1,16 @@
+package com.example.zyno.load;
+
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * The same traffic as {@link EndpointLoadTest} with requests served on virtual threads and database
+ * access capped by the pool-sized semaphore, so the two reports can be compared side by side. Needs a
+ * Java 21 runtime ({@code mvn -Ploadtest,java21 test}); run with more client threads than Tomcat's 200
+ * (for example {@code -Dzyno.load.threads=400}) to see the difference.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadEndpointLoadTest extends EndpointLoadTest {
+}
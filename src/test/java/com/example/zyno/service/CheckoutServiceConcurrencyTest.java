@@ -0,0 +1,94 @@
+package com.example.zyno.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.zyno.exception.InsufficientStockException;
+import com.example.zyno.model.CartItem;
+import com.example.zyno.model.Product;
+import com.example.zyno.model.User;
+import com.example.zyno.repository.CartItemRepository;
+import com.example.zyno.repository.ProductRepository;
+import com.example.zyno.repository.UserRepository;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:checkout;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000")
+@ActiveProfiles("test")
+class CheckoutServiceConcurrencyTest {
+    private static final int STOCK = 50;
+    private static final int BUYERS = 200;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private CheckoutService checkoutService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Test
+    void concurrentCheckoutsNeverOversell() throws Exception {
+        Product product = new Product();
+        product.setProductId("hot-sku");
+        product.setProductName("Hot SKU");
+        product.setPrice(99.0);
+        product.setStockQuantity(STOCK);
+        productRepository.save(product);
+        for (int i = 0; i < BUYERS; i++) {
+            User user = new User();
+            user.setUsername("buyer" + i);
+            userRepository.save(user);
+            CartItem cartItem = new CartItem();
+            cartItem.setUser(user);
+            cartItem.setProduct(product);
+            cartItem.setQuantity(1);
+            cartItemRepository.save(cartItem);
+        }
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < BUYERS; i++) {
+            String buyer = "buyer" + i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    checkoutService.checkout(buyer, "1 Test Street");
+                    succeeded.incrementAndGet();
+                } catch (InsufficientStockException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        System.out.printf("checkout: %d buyers, %d threads, %.1f checkouts/s%n", BUYERS, THREADS, BUYERS / seconds);
+        assertThat(succeeded.get()).isEqualTo(STOCK);
+        assertThat(rejected.get()).isEqualTo(BUYERS - STOCK);
+        assertThat(productRepository.findById("hot-sku").orElseThrow().getStockQuantity()).isZero();
+    }
+}
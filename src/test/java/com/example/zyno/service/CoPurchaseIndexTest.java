@@ -0,0 +1,72 @@
+package com.example.zyno.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.zyno.dto.CoPurchaseDTO;
+
+class CoPurchaseIndexTest {
+
+    @Test
+    void topListsTheMostFrequentPartnersFirst() {
+        CoPurchaseIndex index = new CoPurchaseIndex(2);
+        index.record(List.of("a", "b"), 1);
+        index.record(List.of("a", "b", "c"), 1);
+        index.record(List.of("a", "c"), 1);
+        index.record(List.of("a", "b"), 1);
+        index.record(List.of("a", "d"), 1);
+
+        // capped at k = 2, so d (one order) is left out
+        assertThat(index.top("a", 10)).containsExactly(new CoPurchaseDTO("b", 3), new CoPurchaseDTO("c", 2));
+        assertThat(index.top("a", 1)).containsExactly(new CoPurchaseDTO("b", 3));
+        assertThat(index.top("unknown", 10)).isEmpty();
+    }
+
+    @Test
+    void retractingAnOrderLowersCountsAndDropsPartnersAtZero() {
+        CoPurchaseIndex index = new CoPurchaseIndex(5);
+        index.record(List.of("a", "b"), 1);
+        index.record(List.of("a", "c"), 1);
+        index.record(List.of("a", "c"), 1);
+
+        index.record(List.of("a", "c"), -1);
+        index.record(List.of("a", "b"), -1);
+
+        assertThat(index.top("a", 10)).containsExactly(new CoPurchaseDTO("c", 1));
+        assertThat(index.top("b", 10)).isEmpty();
+    }
+
+    @Test
+    void duplicateProductsInOneOrderCountOnce() {
+        CoPurchaseIndex index = new CoPurchaseIndex(5);
+        index.record(List.of("a", "b", "b", "a"), 1);
+
+        assertThat(index.top("a", 10)).containsExactly(new CoPurchaseDTO("b", 1));
+    }
+
+    // The parallel bulk load must end up where recording the same orders one by one does.
+    @Test
+    void addAllMatchesRecordingOrdersOneByOne() {
+        List<List<String>> orders = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            orders.add(List.of("p" + (i % 37), "p" + (i * 7 % 53), "p" + (i * 13 % 29)));
+        }
+        CoPurchaseIndex incremental = new CoPurchaseIndex(5);
+        orders.forEach(order -> incremental.record(order, 1));
+
+        CoPurchaseIndex bulk = new CoPurchaseIndex(5);
+        List<int[]> interned = orders.stream().map(bulk::intern).toList();
+        bulk.addAll(interned, 4);
+
+        assertThat(bulk.size()).isEqualTo(incremental.size());
+        for (int p = 0; p < 53; p++) {
+            List<Integer> expected = incremental.top("p" + p, 5).stream().map(CoPurchaseDTO::orders).toList();
+            List<Integer> actual = bulk.top("p" + p, 5).stream().map(CoPurchaseDTO::orders).toList();
+            assertThat(actual).as("p" + p).isEqualTo(expected);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.zyno.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class IntIntCounterTest {
+
+    @Test
+    void addAccumulatesPerKeyAndMissingKeysReadAsZero() {
+        IntIntCounter counter = new IntIntCounter();
+        assertThat(counter.add(3, 1)).isEqualTo(1);
+        assertThat(counter.add(3, 2)).isEqualTo(3);
+        assertThat(counter.add(3, -3)).isZero();
+        assertThat(counter.get(3)).isZero();
+        assertThat(counter.get(4)).isZero();
+        // a count that drops to zero keeps its slot
+        assertThat(counter.size()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsEveryEntryAcrossResizes() {
+        IntIntCounter counter = new IntIntCounter();
+        for (int key = 0; key < 10_000; key++) {
+            counter.add(key, key + 1);
+        }
+        assertThat(counter.size()).isEqualTo(10_000);
+        for (int key = 0; key < 10_000; key++) {
+            assertThat(counter.get(key)).isEqualTo(key + 1);
+        }
+    }
+
+    // Keys that are multiples of a large power of two all land on the same few slots before mixing,
+    // so lookups have to walk the probe chain past other keys.
+    @Test
+    void findsKeysPastCollisionsInTheProbeChain() {
+        IntIntCounter counter = new IntIntCounter();
+        for (int i = 0; i < 1_000; i++) {
+            counter.add(i << 16, i);
+        }
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(counter.get(i << 16)).isEqualTo(i);
+        }
+        assertThat(counter.get((1_000 << 16))).isZero();
+    }
+
+    @Test
+    void matchesAHashMapUnderRandomUpdates() {
+        IntIntCounter counter = new IntIntCounter();
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(5_000);
+            int delta = random.nextInt(5) - 2;
+            counter.add(key, delta);
+            expected.merge(key, delta, Integer::sum);
+        }
+        Map<Integer, Integer> actual = new HashMap<>();
+        counter.forEach(actual::put);
+        assertThat(actual).isEqualTo(expected);
+        assertThat(counter.size()).isEqualTo(expected.size());
+    }
+}
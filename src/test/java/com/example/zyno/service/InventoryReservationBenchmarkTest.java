@@ -0,0 +1,124 @@
+package com.example.zyno.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.zyno.exception.InsufficientStockException;
+import com.example.zyno.model.CartItem;
+import com.example.zyno.model.Product;
+import com.example.zyno.model.User;
+import com.example.zyno.repository.CartItemRepository;
+import com.example.zyno.repository.ProductRepository;
+import com.example.zyno.repository.UserRepository;
+
+/**
+ * Runs the same flash-sale checkout load against the row-lock path and the hot-SKU reservation
+ * path and prints the throughput of each. Both must end with exactly the available stock sold.
+ * Part of the load suite: {@code mvn -Ploadtest test}.
+ */
+@Tag("load")
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:inventory;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+    "zyno.inventory.flush-interval-ms=50"
+})
+@ActiveProfiles("test")
+class InventoryReservationBenchmarkTest {
+    private static final int STOCK = 300;
+    private static final int BUYERS = 400;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private CheckoutService checkoutService;
+    @Autowired
+    private InventoryReservationService inventoryReservationService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Test
+    void hotSkuPathSellsExactlyTheStock() throws Exception {
+        seed("row-lock-sku", "row-buyer");
+        seed("striped-sku", "hot-buyer");
+        inventoryReservationService.promote("striped-sku");
+
+        Result rowLock = run("row-buyer");
+        Result striped = run("hot-buyer");
+        inventoryReservationService.flush();
+
+        System.out.printf("row-lock checkout: %.1f checkouts/s%n", rowLock.throughput);
+        System.out.printf("hot-sku checkout:  %.1f checkouts/s%n", striped.throughput);
+        assertThat(rowLock.succeeded).isEqualTo(STOCK);
+        assertThat(striped.succeeded).isEqualTo(STOCK);
+        assertThat(productRepository.findStockQuantity("row-lock-sku")).isZero();
+        assertThat(productRepository.findStockQuantity("striped-sku")).isZero();
+        assertThat(inventoryReservationService.getAvailableStock().get("striped-sku")).isZero();
+    }
+
+    private void seed(String productId, String buyerPrefix) {
+        Product product = new Product();
+        product.setProductId(productId);
+        product.setProductName(productId);
+        product.setPrice(10.0);
+        product.setStockQuantity(STOCK);
+        productRepository.save(product);
+        for (int i = 0; i < BUYERS; i++) {
+            User user = new User();
+            user.setUsername(buyerPrefix + i);
+            userRepository.save(user);
+            CartItem cartItem = new CartItem();
+            cartItem.setUser(user);
+            cartItem.setProduct(product);
+            cartItem.setQuantity(1);
+            cartItemRepository.save(cartItem);
+        }
+    }
+
+    private Result run(String buyerPrefix) throws Exception {
+        AtomicInteger succeeded = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < BUYERS; i++) {
+            String buyer = buyerPrefix + i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    checkoutService.checkout(buyer, "1 Test Street");
+                    succeeded.incrementAndGet();
+                } catch (InsufficientStockException e) {
+                    // sold out
+                }
+                return null;
+            }));
+        }
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        return new Result(succeeded.get(), BUYERS / seconds);
+    }
+
+    private record Result(int succeeded, double throughput) {
+    }
+}
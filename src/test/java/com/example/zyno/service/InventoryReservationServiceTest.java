@@ -0,0 +1,106 @@
+package com.example.zyno.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.zyno.model.InventoryLedgerEntry;
+import com.example.zyno.model.Product;
+import com.example.zyno.repository.InventoryLedgerRepository;
+import com.example.zyno.repository.ProductRepository;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:inventoryledger;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+    "zyno.inventory.flush-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+class InventoryReservationServiceTest {
+    private static final int THREADS = 8;
+
+    @Autowired
+    private InventoryReservationService inventoryReservationService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private InventoryLedgerRepository inventoryLedgerRepository;
+
+    @Test
+    void concurrentFlushesApplyEachLedgerRowOnce() throws Exception {
+        seed("flush-sku", 100);
+        for (int i = 0; i < 50; i++) {
+            inventoryLedgerRepository.save(new InventoryLedgerEntry("flush-sku", 1));
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                inventoryReservationService.flush();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        assertThat(productRepository.findStockQuantity("flush-sku")).isEqualTo(50);
+        assertThat(pendingLedger("flush-sku")).isZero();
+    }
+
+    @Test
+    void promoteSubtractsUnflushedLedgerRows() {
+        seed("pending-sku", 100);
+        inventoryLedgerRepository.save(new InventoryLedgerEntry("pending-sku", 20));
+        inventoryLedgerRepository.save(new InventoryLedgerEntry("pending-sku", 10));
+
+        inventoryReservationService.promote("pending-sku");
+
+        assertThat(inventoryReservationService.getAvailableStock().get("pending-sku")).isEqualTo(70);
+        inventoryReservationService.demote("pending-sku");
+        assertThat(productRepository.findStockQuantity("pending-sku")).isEqualTo(70);
+    }
+
+    @Test
+    void flushNeverDrivesStockNegative() {
+        seed("short-sku", 5);
+        InventoryLedgerEntry entry = inventoryLedgerRepository.save(new InventoryLedgerEntry("short-sku", 10));
+
+        inventoryReservationService.flush();
+
+        assertThat(productRepository.findStockQuantity("short-sku")).isEqualTo(5);
+        assertThat(pendingLedger("short-sku")).isEqualTo(10);
+        inventoryLedgerRepository.delete(entry);
+    }
+
+    private void seed(String productId, int stock) {
+        Product product = new Product();
+        product.setProductId(productId);
+        product.setProductName(productId);
+        product.setPrice(10.0);
+        product.setStockQuantity(stock);
+        productRepository.save(product);
+    }
+
+    private int pendingLedger(String productId) {
+        return inventoryLedgerRepository.findAll().stream()
+            .filter(entry -> entry.getProductId().equals(productId))
+            .mapToInt(InventoryLedgerEntry::getQuantity)
+            .sum();
+    }
+}
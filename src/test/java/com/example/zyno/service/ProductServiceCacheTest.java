@@ -0,0 +1,76 @@
+package com.example.zyno.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.zyno.model.Product;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:productcache;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+class ProductServiceCacheTest {
+    private static final int ROUNDS = 50;
+    private static final int READERS = 8;
+
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private CacheManager cacheManager;
+
+    // Readers evict before each read so a load is always in flight when the delete lands; a load that
+    // read the row before the delete committed must not put it back after the delete's evict.
+    @Test
+    void deletedProductIsNotServedFromTheCache() throws Exception {
+        Cache products = cacheManager.getCache("products");
+        ExecutorService executor = Executors.newFixedThreadPool(READERS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                String id = "cached-" + round;
+                Product product = new Product();
+                product.setProductId(id);
+                product.setProductName(id);
+                product.setPrice(5.0);
+                productService.saveProduct(product);
+
+                AtomicBoolean deleted = new AtomicBoolean();
+                CountDownLatch reading = new CountDownLatch(READERS);
+                List<Future<?>> readers = new ArrayList<>();
+                for (int i = 0; i < READERS; i++) {
+                    readers.add(executor.submit(() -> {
+                        reading.countDown();
+                        while (!deleted.get()) {
+                            products.evict(id);
+                            productService.getProductById(id);
+                        }
+                        return null;
+                    }));
+                }
+                reading.await();
+                productService.deleteProduct(id);
+                deleted.set(true);
+                for (Future<?> reader : readers) {
+                    reader.get();
+                }
+
+                assertThat(productService.getProductById(id)).as("round %d", round).isNull();
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+}
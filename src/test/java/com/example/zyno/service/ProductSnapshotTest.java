@@ -0,0 +1,110 @@
+package com.example.zyno.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.zyno.dto.FacetResultDTO;
+import com.example.zyno.dto.PriceBucketDTO;
+import com.example.zyno.dto.ProductListDTO;
+
+class ProductSnapshotTest {
+
+    @Test
+    void eachFacetIgnoresOnlyItsOwnFilter() {
+        ProductSnapshot snapshot = new ProductSnapshot();
+        snapshot.upsert(new ProductListDTO("p1", "a", "books", 10, 1));
+        snapshot.upsert(new ProductListDTO("p2", "b", "books", 60, 1));
+        snapshot.upsert(new ProductListDTO("p3", "c", "games", 20, 1));
+        snapshot.upsert(new ProductListDTO("p4", "d", "games", 30, 0));
+        snapshot.upsert(new ProductListDTO("p5", "e", null, 15, 1));
+
+        FacetResultDTO result = snapshot.facets("books", 0.0, 50.0, true, null, 10, 50, 1);
+
+        assertThat(result.items()).extracting(ProductListDTO::productId).containsExactly("p1");
+        assertThat(result.total()).isEqualTo(1);
+        // category counts keep the price and stock filters but not the category filter
+        assertThat(result.categoryCounts()).containsExactly(entry("books", 1), entry("games", 1));
+        // price buckets keep the category and stock filters but not the price range
+        assertThat(result.priceBuckets()).containsExactly(
+            new PriceBucketDTO(0, 50.0, 1), new PriceBucketDTO(50, 100.0, 1));
+    }
+
+    @Test
+    void cursorWalksEveryMatchInIdOrderExactlyOnce() {
+        ProductSnapshot snapshot = new ProductSnapshot();
+        List<String> expected = new ArrayList<>();
+        // inserted out of id order so the page cannot rely on row order
+        for (int i = 999; i >= 0; i--) {
+            String id = String.format("p%04d", i);
+            snapshot.upsert(new ProductListDTO(id, id, "c" + (i % 3), i, 1));
+            if (i % 3 == 0) {
+                expected.add(0, id);
+            }
+        }
+
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            FacetResultDTO page = snapshot.facets("c0", null, null, false, cursor, 25, 100, 1);
+            page.items().forEach(item -> seen.add(item.productId()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).isEqualTo(expected);
+    }
+
+    @Test
+    void lastFullPageHasNoNextCursor() {
+        ProductSnapshot snapshot = new ProductSnapshot();
+        for (int i = 0; i < 4; i++) {
+            snapshot.upsert(new ProductListDTO("p" + i, "n", "c", 1, 1));
+        }
+
+        FacetResultDTO first = snapshot.facets(null, null, null, false, null, 2, 10, 1);
+        FacetResultDTO second = snapshot.facets(null, null, null, false, first.nextCursor(), 2, 10, 1);
+
+        assertThat(first.nextCursor()).isEqualTo("p1");
+        assertThat(second.items()).extracting(ProductListDTO::productId).containsExactly("p2", "p3");
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    // Each range keeps its own bounded page heap; merging them has to give the same page and counts.
+    @Test
+    void parallelScanMergesToTheSequentialResult() {
+        ProductSnapshot snapshot = new ProductSnapshot();
+        for (int i = 0; i < 20_000; i++) {
+            snapshot.upsert(new ProductListDTO(String.format("p%05d", (i * 7919) % 20_000), "n" + i,
+                "c" + (i % 7), (i * 31) % 1000, i % 5));
+        }
+        snapshot.remove("p00042");
+        snapshot.adjustStock("p00043", -100);
+
+        FacetResultDTO sequential = snapshot.facets("c3", 100.0, 700.0, true, "p05000", 50, 25, 1);
+        FacetResultDTO parallel = snapshot.facets("c3", 100.0, 700.0, true, "p05000", 50, 25, 8);
+
+        assertThat(parallel).isEqualTo(sequential);
+        assertThat(sequential.items()).hasSize(50).isSortedAccordingTo(
+            (a, b) -> a.productId().compareTo(b.productId()));
+        assertThat(sequential.items().get(0).productId()).isGreaterThan("p05000");
+    }
+
+    @Test
+    void removedProductsDisappearAndReappearOnUpsert() {
+        ProductSnapshot snapshot = new ProductSnapshot();
+        snapshot.upsert(new ProductListDTO("p1", "a", "books", 10, 1));
+        snapshot.remove("p1");
+
+        assertThat(snapshot.size()).isZero();
+        assertThat(snapshot.facets(null, null, null, false, null, 10, 50, 1).items()).isEmpty();
+
+        snapshot.upsert(new ProductListDTO("p1", "a", "games", 10, 1));
+        FacetResultDTO result = snapshot.facets(null, null, null, false, null, 10, 50, 1);
+        assertThat(result.items()).extracting(ProductListDTO::category).containsExactly("games");
+        assertThat(result.categoryCounts()).containsOnlyKeys("games");
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.zyno.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.zyno.model.Order;
+import com.example.zyno.model.Product;
+import com.example.zyno.model.SalesDimension;
+import com.example.zyno.model.SalesRollup;
+import com.example.zyno.repository.ProductRepository;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:salesrollups;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+class SalesRollupServiceTest {
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 14);
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private SalesRollupService salesRollupService;
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void removingAnOrderAfterAPriceChangeLeavesNoRevenueBehind() {
+        Product lamp = product("rollup-lamp", "lighting", 30.0);
+        Product desk = product("rollup-desk", "furniture", 70.0);
+        String orderId = orderService.saveOrder(order(lamp, desk)).getOrderId();
+        assertThat(revenue(SalesDimension.PRODUCT, "rollup-lamp")).isCloseTo(60.0, within(1e-9));
+
+        lamp.setPrice(90.0);
+        productRepository.save(lamp);
+        orderService.deleteOrder(orderId);
+
+        assertThat(revenue(SalesDimension.PRODUCT, "rollup-lamp")).isCloseTo(0.0, within(1e-9));
+        assertThat(revenue(SalesDimension.PRODUCT, "rollup-desk")).isCloseTo(0.0, within(1e-9));
+        assertThat(revenue(SalesDimension.CATEGORY, "lighting")).isCloseTo(0.0, within(1e-9));
+        assertThat(revenue(SalesDimension.CATEGORY, "furniture")).isCloseTo(0.0, within(1e-9));
+    }
+
+    @Test
+    void rebuildKeepsTheSplitRecordedWhenTheOrderWasPlaced() {
+        Product chair = product("rollup-chair", "seating", 25.0);
+        Product stool = product("rollup-stool", "seating", 75.0);
+        orderService.saveOrder(order(chair, stool));
+
+        chair.setPrice(75.0);
+        productRepository.save(chair);
+        salesRollupService.rebuild();
+
+        assertThat(revenue(SalesDimension.PRODUCT, "rollup-chair")).isCloseTo(50.0, within(1e-9));
+        assertThat(revenue(SalesDimension.PRODUCT, "rollup-stool")).isCloseTo(150.0, within(1e-9));
+    }
+
+    private Product product(String productId, String category, double price) {
+        Product product = new Product();
+        product.setProductId(productId);
+        product.setProductName(productId);
+        product.setCategory(category);
+        product.setPrice(price);
+        return productRepository.save(product);
+    }
+
+    private static Order order(Product... products) {
+        Order order = new Order();
+        order.setOrderDate(DAY.atTime(12, 0));
+        order.setQuantity(2);
+        order.setTotalAmount(200.0);
+        order.setProducts(List.of(products));
+        return order;
+    }
+
+    private double revenue(SalesDimension dimension, String key) {
+        return salesRollupService.getDaily(dimension, key, DAY, DAY).stream()
+            .mapToDouble(SalesRollup::getRevenue)
+            .sum();
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.zyno.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.zyno.model.Order;
+import com.example.zyno.model.Transaction;
+import com.example.zyno.model.TransactionStatus;
+import com.example.zyno.payment.LocalPaymentGateway;
+import com.example.zyno.payment.PaymentRequest;
+import com.example.zyno.payment.PaymentResult;
+import com.example.zyno.repository.OrderRepository;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:payments;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+    "zyno.payments.local.latency-ms=50"
+})
+@ActiveProfiles("test")
+class TransactionServiceIdempotencyTest {
+    private static final int REQUESTS = 16;
+
+    @Autowired
+    private TransactionService transactionService;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private LocalPaymentGateway paymentGateway;
+
+    @Test
+    void resubmittingOneKeyChargesOnce() throws Exception {
+        String orderId = order(25.0);
+        long chargesBefore = paymentGateway.getChargeCount();
+
+        List<Transaction> results = concurrently(i -> transactionService.pay(orderId, "same-key", "card"));
+
+        assertThat(results.stream().map(Transaction::getTransactionId).collect(Collectors.toSet())).hasSize(1);
+        Transaction completed = awaitCompletion(results.get(0).getTransactionId());
+        assertThat(completed.getStatus()).isEqualTo(TransactionStatus.SUCCEEDED);
+        assertThat(paymentGateway.getChargeCount() - chargesBefore).isEqualTo(1);
+    }
+
+    @Test
+    void differentKeysForOneOrderChargeOnce() throws Exception {
+        String orderId = order(40.0);
+        long chargesBefore = paymentGateway.getChargeCount();
+
+        List<Transaction> results = concurrently(i -> transactionService.pay(orderId, "key-" + orderId + "-" + i, "card"));
+
+        Set<String> ids = results.stream().map(Transaction::getTransactionId).collect(Collectors.toSet());
+        assertThat(ids).hasSize(1);
+        assertThat(awaitCompletion(ids.iterator().next()).getStatus()).isEqualTo(TransactionStatus.SUCCEEDED);
+        assertThat(paymentGateway.getChargeCount() - chargesBefore).isEqualTo(1);
+    }
+
+    @Test
+    void retryAfterFailureIsANewAttemptAndKeepsTheFailedOne() throws Exception {
+        String orderId = order(0.0);
+        Transaction failed = awaitCompletion(transactionService.pay(orderId, "declined-" + orderId, "card").getTransactionId());
+        assertThat(failed.getStatus()).isEqualTo(TransactionStatus.FAILED);
+
+        Order order = orderRepository.findById(orderId).orElseThrow();
+        order.setTotalAmount(12.0);
+        orderRepository.save(order);
+        Transaction retried = awaitCompletion(transactionService.pay(orderId, "retry-" + orderId, "card").getTransactionId());
+
+        assertThat(retried.getTransactionId()).isNotEqualTo(failed.getTransactionId());
+        assertThat(retried.getStatus()).isEqualTo(TransactionStatus.SUCCEEDED);
+        Transaction original = transactionService.getTransactionById(failed.getTransactionId());
+        assertThat(original.getStatus()).isEqualTo(TransactionStatus.FAILED);
+        assertThat(original.getIdempotencyKey()).isEqualTo("declined-" + orderId);
+        assertThat(transactionService.getTransactionByOrderId(orderId).getTransactionId()).isEqualTo(retried.getTransactionId());
+        // the first key still answers with its own attempt
+        assertThat(transactionService.pay(orderId, "declined-" + orderId, "card").getTransactionId())
+            .isEqualTo(failed.getTransactionId());
+    }
+
+    @Test
+    void gatewayChargesEachKeyOnceUnderConcurrentRetries() throws Exception {
+        LocalPaymentGateway gateway = new LocalPaymentGateway(50);
+        PaymentRequest request = new PaymentRequest("tx-1", "gateway-key", 9.0, "card");
+
+        List<PaymentResult> results = concurrently(i -> gateway.charge(request));
+
+        assertThat(results).allMatch(PaymentResult::succeeded);
+        assertThat(results.stream().map(PaymentResult::reference).distinct()).hasSize(1);
+        assertThat(gateway.getChargeCount()).isEqualTo(1);
+    }
+
+    private String order(double totalAmount) {
+        Order order = new Order();
+        order.setTotalAmount(totalAmount);
+        return orderRepository.save(order).getOrderId();
+    }
+
+    private <T> List<T> concurrently(IntFunction<T> call) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            int request = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return call.apply(request);
+            }));
+        }
+        start.countDown();
+        List<T> results = new ArrayList<>();
+        for (Future<T> future : futures) {
+            results.add(future.get());
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        return results;
+    }
+
+    private Transaction awaitCompletion(String transactionId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        Transaction transaction = transactionService.getTransactionById(transactionId);
+        while (transaction.getStatus() == TransactionStatus.PENDING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            transaction = transactionService.getTransactionById(transactionId);
+        }
+        return transaction;
+    }
+}